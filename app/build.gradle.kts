@@ -1,8 +1,69 @@
+import java.io.ByteArrayOutputStream
+import java.io.DataOutputStream
+
 plugins {
     alias(libs.plugins.android.application)
     alias(libs.plugins.google.gms.google.services)
 }
 
+// Packs src/main/corpus/quotes.tsv into the binary layout read by QuoteCorpus:
+// header, per-category (start, count) index, per-quote string offsets, then one UTF-8 blob.
+abstract class GenerateQuoteCorpus : DefaultTask() {
+    @get:InputFile
+    abstract val source: RegularFileProperty
+
+    @get:OutputDirectory
+    abstract val outputDir: DirectoryProperty
+
+    @TaskAction
+    fun generate() {
+        val byCategory = LinkedHashMap<String, MutableList<Pair<String, String>>>()
+        source.get().asFile.readLines(Charsets.UTF_8)
+            .filter { it.isNotBlank() && !it.startsWith("#") }
+            .forEach { line ->
+                val fields = line.split('\t')
+                require(fields.size == 3) { "Expected category<TAB>text<TAB>author: $line" }
+                byCategory.getOrPut(fields[0]) { mutableListOf() }.add(fields[1] to fields[2])
+            }
+
+        val blob = ByteArrayOutputStream()
+        val offsets = mutableListOf<Int>()
+        fun intern(value: String) {
+            val bytes = value.toByteArray(Charsets.UTF_8)
+            offsets.add(blob.size())
+            offsets.add(bytes.size)
+            blob.write(bytes)
+        }
+        byCategory.values.flatten().forEach { (text, author) ->
+            intern(text)
+            intern(author)
+        }
+
+        val file = outputDir.get().file("quote_corpus.bin").asFile
+        file.parentFile.mkdirs()
+        DataOutputStream(file.outputStream().buffered()).use { out ->
+            out.writeInt(0x51484331)
+            out.writeInt(byCategory.size)
+            var start = 0
+            byCategory.forEach { (category, quotes) ->
+                out.writeUTF(category)
+                out.writeInt(start)
+                out.writeInt(quotes.size)
+                start += quotes.size
+            }
+            out.writeInt(start)
+            offsets.forEach { out.writeInt(it) }
+            out.writeInt(blob.size())
+            blob.writeTo(out)
+        }
+    }
+}
+
+val generateQuoteCorpus = tasks.register<GenerateQuoteCorpus>("generateQuoteCorpus") {
+    source.set(layout.projectDirectory.file("src/main/corpus/quotes.tsv"))
+    outputDir.set(layout.buildDirectory.dir("generated/corpus"))
+}
+
 android {
     namespace = "com.example.quotehub"
     compileSdk {
@@ -28,12 +89,22 @@ android {
             )
         }
     }
+    androidResources {
+        // Stored uncompressed so QuoteCorpus can memory-map it straight out of the APK.
+        noCompress += "bin"
+    }
     compileOptions {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
     }
 }
 
+androidComponents {
+    onVariants { variant ->
+        variant.sources.assets?.addGeneratedSourceDirectory(generateQuoteCorpus, GenerateQuoteCorpus::outputDir)
+    }
+}
+
 dependencies {
     implementation(libs.appcompat)
     implementation(libs.material)
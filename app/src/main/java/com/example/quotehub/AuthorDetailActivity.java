@@ -0,0 +1,262 @@
+package com.example.quotehub;
+
+import android.os.Bundle;
+import android.view.View;
+import android.widget.ImageView;
+import android.widget.ProgressBar;
+import android.widget.TextView;
+import android.widget.Toast;
+import androidx.annotation.NonNull;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.Query;
+import com.google.firebase.database.ValueEventListener;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+// All quotes by one author, paged oldest first through authors/{authorKey}, which holds
+// quoteId -> timestamp. Each page of ids is turned into quotes by QuoteResolver, so bodies
+// already on the device are not downloaded again.
+public class AuthorDetailActivity extends AppCompatActivity implements QuoteAdapter.OnQuoteInteractionListener {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PREFETCH_DISTANCE = 5;
+
+    private TextView quoteCount;
+    private RecyclerView recyclerView;
+    private ProgressBar loadingProgress;
+    private TextView emptyState;
+    private QuoteAdapter quoteAdapter;
+    private final List<Quote> authorQuotesList = new ArrayList<>();
+    private LikedQuotesStore.Observer likesObserver;
+    private final LikeWriteQueue.Listener likeFailureListener = quoteIds -> {
+        for (String quoteId : quoteIds) {
+            refreshQuoteLiked(quoteId);
+        }
+        Toast.makeText(this, "Failed to update favorites", Toast.LENGTH_SHORT).show();
+    };
+    private DatabaseReference mDatabase;
+    private String author;
+    private String authorKey;
+    private String userId;
+    private String cursorId;
+    private double cursorValue;
+    private boolean isLoadingPage = false;
+    private boolean hasMorePages = true;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+
+        author = getIntent().getStringExtra("author");
+        authorKey = QuoteWriteBatch.authorKey(author);
+        if (authorKey == null) {
+            Toast.makeText(this, "Invalid author", Toast.LENGTH_SHORT).show();
+            finish();
+            return;
+        }
+
+        setContentView(R.layout.activity_category_detail);
+
+        mDatabase = FirebaseDatabase.getInstance().getReference();
+        FirebaseAuth mAuth = FirebaseAuth.getInstance();
+        if (mAuth.getCurrentUser() != null) {
+            userId = mAuth.getCurrentUser().getUid();
+        }
+
+        initializeViews();
+        observeLikes();
+        showLoading();
+        loadNextPage();
+    }
+
+    private void initializeViews() {
+        ImageView backButton = findViewById(R.id.backButton);
+        backButton.setOnClickListener(v -> finish());
+
+        TextView title = findViewById(R.id.categoryTitle);
+        title.setText(author.trim());
+        quoteCount = findViewById(R.id.quoteCount);
+        loadingProgress = findViewById(R.id.loadingProgress);
+        emptyState = findViewById(R.id.emptyState);
+        emptyState.setText("No quotes by this author yet");
+
+        recyclerView = findViewById(R.id.categoryQuotesRecyclerView);
+        LinearLayoutManager layoutManager = new LinearLayoutManager(this);
+        recyclerView.setLayoutManager(layoutManager);
+        quoteAdapter = new QuoteAdapter((QuoteAdapter.OnQuoteInteractionListener) this);
+        recyclerView.setAdapter(quoteAdapter);
+
+        recyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (dy <= 0 || isLoadingPage || !hasMorePages) return;
+
+                int lastVisible = layoutManager.findLastVisibleItemPosition();
+                if (lastVisible >= quoteAdapter.getItemCount() - PREFETCH_DISTANCE) {
+                    loadNextPage();
+                }
+            }
+        });
+    }
+
+    private void loadNextPage() {
+        if (isLoadingPage || !hasMorePages) return;
+        isLoadingPage = true;
+
+        DatabaseReference indexRef = mDatabase.child("authors").child(authorKey);
+        // startAt() includes the cursor row itself, so ask for one extra and skip it.
+        Query page = cursorId == null
+                ? indexRef.orderByValue().limitToFirst(PAGE_SIZE)
+                : indexRef.orderByValue().startAt(cursorValue, cursorId).limitToFirst(PAGE_SIZE + 1);
+
+        page.addListenerForSingleValueEvent(new ValueEventListener() {
+            @Override
+            public void onDataChange(@NonNull DataSnapshot snapshot) {
+                if (isDestroyed()) return;
+
+                List<String> quoteIds = new ArrayList<>();
+                for (DataSnapshot entry : snapshot.getChildren()) {
+                    String quoteId = entry.getKey();
+                    if (quoteId == null || quoteId.equals(cursorId)) continue;
+
+                    Object value = entry.getValue();
+                    cursorValue = value instanceof Number ? ((Number) value).doubleValue() : 0;
+                    cursorId = quoteId;
+                    quoteIds.add(quoteId);
+                }
+                hasMorePages = quoteIds.size() == PAGE_SIZE;
+                resolvePage(quoteIds);
+            }
+
+            @Override
+            public void onCancelled(@NonNull DatabaseError error) {
+                if (isDestroyed()) return;
+                isLoadingPage = false;
+                Toast.makeText(AuthorDetailActivity.this, "Failed to load quotes: " + error.getMessage(),
+                        Toast.LENGTH_SHORT).show();
+                hideLoading();
+                updateUI();
+            }
+        });
+    }
+
+    private void resolvePage(List<String> quoteIds) {
+        if (quoteIds.isEmpty()) {
+            isLoadingPage = false;
+            hideLoading();
+            updateUI();
+            return;
+        }
+
+        QuoteResolver.get(this).resolve(new HashSet<>(quoteIds), quotes -> {
+            if (isDestroyed()) return;
+            isLoadingPage = false;
+
+            LikeWriteQueue likeQueue = LikeWriteQueue.get(this);
+            int added = 0;
+            for (String quoteId : quoteIds) {
+                Quote quote = quotes.get(quoteId);
+                if (quote == null) continue;
+                quote.setLiked(likeQueue.isLiked(quoteId));
+                authorQuotesList.add(quote);
+                added++;
+            }
+            quoteAdapter.setQuotes(authorQuotesList);
+            hideLoading();
+            updateUI();
+
+            // A page made up only of entries whose quote is gone would otherwise stall paging.
+            if (added == 0) {
+                loadNextPage();
+            }
+        });
+    }
+
+    private void observeLikes() {
+        if (userId == null) return;
+
+        likesObserver = new LikedQuotesStore.Observer() {
+            @Override
+            public void onLikedQuoteAdded(Quote quote) {
+                refreshQuoteLiked(quote.getId());
+            }
+
+            @Override
+            public void onLikedQuoteChanged(Quote quote) {
+            }
+
+            @Override
+            public void onLikedQuoteRemoved(Quote quote) {
+                refreshQuoteLiked(quote.getId());
+            }
+
+            @Override
+            public void onLikedQuotesError(String error) {
+            }
+        };
+        LikedQuotesStore.getInstance().subscribe(this, userId, likesObserver);
+        LikeWriteQueue.get(this).addListener(likeFailureListener);
+    }
+
+    private void refreshQuoteLiked(String quoteId) {
+        boolean liked = LikeWriteQueue.get(this).isLiked(quoteId);
+        for (Quote quote : authorQuotesList) {
+            if (quote.getId().equals(quoteId) && quote.isLiked() != liked) {
+                quote.setLiked(liked);
+                quoteAdapter.setQuotes(authorQuotesList);
+                return;
+            }
+        }
+    }
+
+    private void updateUI() {
+        boolean empty = authorQuotesList.isEmpty();
+        emptyState.setVisibility(empty ? View.VISIBLE : View.GONE);
+        recyclerView.setVisibility(empty ? View.GONE : View.VISIBLE);
+        quoteCount.setText(authorQuotesList.size() + (hasMorePages ? "+ quotes" : " quotes"));
+    }
+
+    private void showLoading() {
+        loadingProgress.setVisibility(View.VISIBLE);
+        recyclerView.setVisibility(View.GONE);
+        emptyState.setVisibility(View.GONE);
+    }
+
+    private void hideLoading() {
+        loadingProgress.setVisibility(View.GONE);
+    }
+
+    @Override
+    public void onLikeToggle(Quote clickedQuote, int position) {
+        if (userId == null) {
+            Toast.makeText(this, "Please sign in to like quotes", Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        if (position >= authorQuotesList.size()) return;
+
+        Quote quote = authorQuotesList.get(position);
+        boolean liked = !quote.isLiked();
+        quote.setLiked(liked);
+        quoteAdapter.setQuotes(authorQuotesList);
+        LikeWriteQueue.get(this).setLiked(userId, quote.getId(), liked);
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        LikeWriteQueue.get(this).removeListener(likeFailureListener);
+        if (likesObserver != null) {
+            LikedQuotesStore.getInstance().unsubscribe(likesObserver);
+            likesObserver = null;
+        }
+    }
+}
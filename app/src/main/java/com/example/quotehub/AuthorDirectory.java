@@ -0,0 +1,165 @@
+package com.example.quotehub;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Immutable prefix lookup over author names. Each author contributes one key per word start
+// ("albert einstein" and "einstein"), and the keys sit in one sorted String[] with a parallel
+// int[] pointing back at the author; a prefix is then a contiguous range found by binary search.
+// Within a range, authors with more quotes come first, so the usual spelling of a name is the
+// one offered.
+public final class AuthorDirectory {
+
+    public static final class Builder {
+        // Normalized name -> counts per spelling seen, so the most common spelling is displayed.
+        private final Map<String, Map<String, Integer>> spellings = new HashMap<>();
+
+        public Builder add(String author) {
+            if (author == null) return this;
+            String display = author.trim();
+            String key = QuoteIds.normalize(display);
+            if (key.isEmpty()) return this;
+
+            Map<String, Integer> counts = spellings.get(key);
+            if (counts == null) {
+                counts = new HashMap<>();
+                spellings.put(key, counts);
+            }
+            counts.merge(display, 1, Integer::sum);
+            return this;
+        }
+
+        public Builder remove(String author) {
+            if (author == null) return this;
+            String display = author.trim();
+            String key = QuoteIds.normalize(display);
+            Map<String, Integer> counts = spellings.get(key);
+            if (counts == null || !counts.containsKey(display)) return this;
+
+            int remaining = counts.get(display) - 1;
+            if (remaining > 0) {
+                counts.put(display, remaining);
+            } else {
+                counts.remove(display);
+                if (counts.isEmpty()) {
+                    spellings.remove(key);
+                }
+            }
+            return this;
+        }
+
+        public AuthorDirectory build() {
+            int size = spellings.size();
+            String[] names = new String[size];
+            int[] weights = new int[size];
+            List<String> keys = new ArrayList<>();
+            List<Integer> owners = new ArrayList<>();
+
+            int author = 0;
+            for (Map.Entry<String, Map<String, Integer>> entry : spellings.entrySet()) {
+                String best = null;
+                int bestCount = 0;
+                int total = 0;
+                for (Map.Entry<String, Integer> spelling : entry.getValue().entrySet()) {
+                    total += spelling.getValue();
+                    if (spelling.getValue() > bestCount
+                            || (spelling.getValue() == bestCount && spelling.getKey().compareTo(best) < 0)) {
+                        best = spelling.getKey();
+                        bestCount = spelling.getValue();
+                    }
+                }
+                names[author] = best;
+                weights[author] = total;
+
+                String key = entry.getKey();
+                for (int start = 0; start < key.length(); start = key.indexOf(' ', start) + 1) {
+                    keys.add(key.substring(start));
+                    owners.add(author);
+                    if (key.indexOf(' ', start) < 0) break;
+                }
+                author++;
+            }
+
+            Integer[] order = new Integer[keys.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> keys.get(a).compareTo(keys.get(b)));
+
+            String[] sortedKeys = new String[order.length];
+            int[] sortedOwners = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedKeys[i] = keys.get(order[i]);
+                sortedOwners[i] = owners.get(order[i]);
+            }
+            return new AuthorDirectory(sortedKeys, sortedOwners, names, weights);
+        }
+    }
+
+    private final String[] keys;
+    private final int[] owners;
+    private final String[] names;
+    private final int[] weights;
+
+    private AuthorDirectory(String[] keys, int[] owners, String[] names, int[] weights) {
+        this.keys = keys;
+        this.owners = owners;
+        this.names = names;
+        this.weights = weights;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    // Up to limit display names whose name, or any later word of it, starts with the prefix.
+    public List<String> lookup(String prefix, int limit) {
+        String key = QuoteIds.normalize(prefix);
+        if (key.isEmpty() || limit <= 0) return Collections.emptyList();
+
+        int from = lowerBound(key);
+        int to = lowerBound(key + Character.MAX_VALUE);
+
+        // Range sizes are small next to the directory, so a partial selection beats sorting.
+        List<Integer> best = new ArrayList<>(limit + 1);
+        for (int i = from; i < to; i++) {
+            int author = owners[i];
+            if (best.contains(author)) continue;
+
+            int position = best.size();
+            while (position > 0 && weights[best.get(position - 1)] < weights[author]) {
+                position--;
+            }
+            if (position < limit) {
+                best.add(position, author);
+                if (best.size() > limit) {
+                    best.remove(limit);
+                }
+            }
+        }
+
+        List<String> result = new ArrayList<>(best.size());
+        for (int author : best) {
+            result.add(names[author]);
+        }
+        return result;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
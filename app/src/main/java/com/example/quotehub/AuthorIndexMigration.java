@@ -0,0 +1,35 @@
+package com.example.quotehub;
+
+import com.google.firebase.database.DatabaseReference;
+import java.util.Map;
+
+// One-off backfill of authors/{authorKey}/{id} for quotes written before the author index
+// existed. QuoteChunkMigration walks quotes/ in chunks under the lease on migrations/authors/owner
+// and keeps the entries in step with edits and deletes made while it runs. It waits for the
+// category shard backfill to finish, so no client walks quotes/ for both at the same time.
+public class AuthorIndexMigration extends QuoteChunkMigration {
+
+    private static final String PROGRESS_PATH = "migrations/authors";
+
+    private AuthorIndexMigration(DatabaseReference root) {
+        super(root, PROGRESS_PATH);
+    }
+
+    public static void runIfNeeded(DatabaseReference root) {
+        new AuthorIndexMigration(root).start();
+    }
+
+    @Override
+    protected String prerequisitePath() {
+        return QuoteShardMigration.PROGRESS_PATH;
+    }
+
+    @Override
+    protected void putEntries(String quoteId, Object quoteValue, Map<String, Object> updates) {
+        Quote quote = SnapshotMappers.toQuote(quoteId, quoteValue);
+        String authorKey = quote != null ? QuoteWriteBatch.authorKey(quote.getAuthor()) : null;
+        if (authorKey != null) {
+            updates.put(QuoteWriteBatch.authorPath(authorKey, quoteId), quote.getTimestamp());
+        }
+    }
+}
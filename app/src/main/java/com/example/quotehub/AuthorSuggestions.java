@@ -0,0 +1,112 @@
+package com.example.quotehub;
+
+import android.content.Context;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Author names for autocomplete, gathered from the built-in corpus and the on-device copy of
+// quotes/. The builder lives on one background thread: the corpus is added once, and changes
+// from LocalQuoteStore are applied to it as they arrive. Lookups read the last published
+// AuthorDirectory without locking; a new one is built at most once per PUBLISH_DEBOUNCE_MS, so
+// a burst of sync writes costs one rebuild and never holds up a lookup.
+public class AuthorSuggestions {
+
+    private static final int SCAN_BATCH_SIZE = 500;
+    private static final long PUBLISH_DEBOUNCE_MS = 1000;
+
+    private static AuthorSuggestions instance;
+
+    private final Context context;
+    private final ScheduledExecutorService builderExecutor = Executors.newSingleThreadScheduledExecutor();
+    private final CountDownLatch firstPublish = new CountDownLatch(1);
+    // Confined to builderExecutor.
+    private final AuthorDirectory.Builder builder = new AuthorDirectory.Builder();
+    // Stored quotes already counted, so re-synced or edited quotes do not skew the counts.
+    private final Map<String, String> authorByQuoteId = new HashMap<>();
+    private boolean publishScheduled = false;
+    private volatile AuthorDirectory directory;
+    private boolean started = false;
+
+    private AuthorSuggestions(Context context) {
+        this.context = context;
+    }
+
+    public static synchronized AuthorSuggestions get(Context context) {
+        if (instance == null) {
+            instance = new AuthorSuggestions(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    public synchronized void ensureIndexed() {
+        if (started) return;
+        started = true;
+
+        builderExecutor.execute(() -> {
+            QuoteCorpus corpus = QuoteCorpus.get(context);
+            for (String category : corpus.getCategories()) {
+                QuoteCorpus.Slice slice = corpus.getCategory(category);
+                for (int i = 0; i < slice.size(); i++) {
+                    builder.add(slice.getAuthor(i));
+                }
+            }
+            directory = builder.build();
+            firstPublish.countDown();
+        });
+
+        LocalQuoteStore store = LocalQuoteStore.get(context);
+        store.addChangeListener((changed, deletedIds) -> builderExecutor.execute(() -> apply(changed, deletedIds)));
+        store.scan(SCAN_BATCH_SIZE, batch -> builderExecutor.execute(() -> apply(batch, Collections.emptyList())));
+    }
+
+    // Blocking until the corpus is in; call from a background thread such as a SnapshotPipeline stage.
+    public List<String> lookup(String prefix, int limit) {
+        ensureIndexed();
+        try {
+            firstPublish.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Collections.emptyList();
+        }
+        return directory.lookup(prefix, limit);
+    }
+
+    private void apply(List<Quote> changed, List<String> deletedIds) {
+        boolean modified = false;
+        for (String quoteId : deletedIds) {
+            if (authorByQuoteId.containsKey(quoteId)) {
+                builder.remove(authorByQuoteId.remove(quoteId));
+                modified = true;
+            }
+        }
+        for (Quote quote : changed) {
+            String author = quote.getAuthor();
+            if (authorByQuoteId.containsKey(quote.getId())) {
+                String previous = authorByQuoteId.get(quote.getId());
+                if (previous == null ? author == null : previous.equals(author)) continue;
+                builder.remove(previous);
+            }
+            authorByQuoteId.put(quote.getId(), author);
+            builder.add(author);
+            modified = true;
+        }
+        if (modified) {
+            schedulePublish();
+        }
+    }
+
+    private void schedulePublish() {
+        if (publishScheduled) return;
+        publishScheduled = true;
+        builderExecutor.schedule(() -> {
+            publishScheduled = false;
+            directory = builder.build();
+        }, PUBLISH_DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+    }
+}
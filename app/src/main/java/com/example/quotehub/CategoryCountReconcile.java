@@ -0,0 +1,165 @@
+package com.example.quotehub;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.MutableData;
+import com.google.firebase.database.Query;
+import com.google.firebase.database.Transaction;
+import com.google.firebase.database.ValueEventListener;
+import java.util.HashSet;
+import java.util.Set;
+
+// One-time correction of categoryCounts/{category}/count, which only covers quotes written since
+// the counter was introduced. One client at a time, holding a JobLease on
+// categoryCountLeases/{category}, counts quotesByCategory/{category} a chunk at a time; every
+// other client keeps showing the paged count meanwhile. The total is stored together with
+// reconciled = true in a transaction on categoryCounts/{category} that only commits if its
+// writes sequence is the one read before the walk. Every create and delete bumps that sequence
+// in the same write as the shard, so a matching sequence means no quote entered or left the
+// category during the walk; otherwise the count is thrown away and the next run retries. Waits
+// for QuoteShardMigration, since the shard is only complete after it.
+public class CategoryCountReconcile {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final long LEASE_TTL_MS = 2 * 60_000;
+
+    private static final Set<String> running = new HashSet<>();
+
+    private final DatabaseReference root;
+    private final String category;
+    private final JobLease lease;
+
+    private CategoryCountReconcile(DatabaseReference root, String category) {
+        this.root = root;
+        this.category = category;
+        this.lease = new JobLease(root.child("categoryCountLeases").child(category), LEASE_TTL_MS);
+    }
+
+    public static void runIfNeeded(DatabaseReference root, String category) {
+        if (category == null || !running.add(category)) return;
+        new CategoryCountReconcile(root, category).start();
+    }
+
+    private void start() {
+        root.child(QuoteShardMigration.PROGRESS_PATH).child("done")
+                .addListenerForSingleValueEvent(new ValueEventListener() {
+                    @Override
+                    public void onDataChange(@NonNull DataSnapshot snapshot) {
+                        if (!Boolean.TRUE.equals(snapshot.getValue(Boolean.class))) {
+                            stop();
+                            return;
+                        }
+                        lease.acquire(held -> {
+                            if (held) {
+                                readWrites();
+                            } else {
+                                stop();
+                            }
+                        });
+                    }
+
+                    @Override
+                    public void onCancelled(@NonNull DatabaseError error) {
+                        stop();
+                    }
+                });
+    }
+
+    private void readWrites() {
+        root.child("categoryCounts").child(category)
+                .addListenerForSingleValueEvent(new ValueEventListener() {
+                    @Override
+                    public void onDataChange(@NonNull DataSnapshot snapshot) {
+                        if (Boolean.TRUE.equals(snapshot.child("reconciled").getValue(Boolean.class))) {
+                            release();
+                            return;
+                        }
+                        countChunk(asLong(snapshot.child("writes").getValue()), null, 0);
+                    }
+
+                    @Override
+                    public void onCancelled(@NonNull DatabaseError error) {
+                        release();
+                    }
+                });
+    }
+
+    private void countChunk(Long writesBefore, String cursor, long counted) {
+        DatabaseReference shard = root.child("quotesByCategory").child(category);
+        // startAt() includes the cursor row itself, so ask for one extra and skip it.
+        Query chunk = cursor == null
+                ? shard.orderByKey().limitToFirst(CHUNK_SIZE)
+                : shard.orderByKey().startAt(cursor).limitToFirst(CHUNK_SIZE + 1);
+
+        chunk.addListenerForSingleValueEvent(new ValueEventListener() {
+            @Override
+            public void onDataChange(@NonNull DataSnapshot snapshot) {
+                String lastKey = cursor;
+                int rows = 0;
+                for (DataSnapshot entry : snapshot.getChildren()) {
+                    String quoteId = entry.getKey();
+                    if (quoteId == null || quoteId.equals(cursor)) continue;
+                    lastKey = quoteId;
+                    rows++;
+                }
+
+                if (rows < CHUNK_SIZE) {
+                    storeCount(writesBefore, counted + rows);
+                    return;
+                }
+                String nextCursor = lastKey;
+                long countedSoFar = counted + rows;
+                lease.acquire(held -> {
+                    if (held) {
+                        countChunk(writesBefore, nextCursor, countedSoFar);
+                    } else {
+                        stop();
+                    }
+                });
+            }
+
+            @Override
+            public void onCancelled(@NonNull DatabaseError error) {
+                release();
+            }
+        });
+    }
+
+    private void storeCount(Long writesBefore, long total) {
+        root.child("categoryCounts").child(category).runTransaction(new Transaction.Handler() {
+            @NonNull
+            @Override
+            public Transaction.Result doTransaction(@NonNull MutableData currentData) {
+                Long writes = asLong(currentData.child("writes").getValue());
+                if (writes == null ? writesBefore != null : !writes.equals(writesBefore)) {
+                    return Transaction.abort();
+                }
+                currentData.child("count").setValue(total);
+                currentData.child("reconciled").setValue(true);
+                return Transaction.success(currentData);
+            }
+
+            @Override
+            public void onComplete(@Nullable DatabaseError error, boolean committed,
+                                   @Nullable DataSnapshot currentData) {
+                release();
+            }
+        });
+    }
+
+    private void release() {
+        lease.release();
+        stop();
+    }
+
+    private void stop() {
+        running.remove(category);
+    }
+
+    private static Long asLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+}
@@ -7,6 +7,7 @@ import android.widget.ProgressBar;
 import android.widget.TextView;
 import android.widget.Toast;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
@@ -16,14 +17,21 @@ import com.google.firebase.database.DataSnapshot;
 import com.google.firebase.database.DatabaseError;
 import com.google.firebase.database.DatabaseReference;
 import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.MutableData;
+import com.google.firebase.database.ServerValue;
+import com.google.firebase.database.Transaction;
 import com.google.firebase.database.ValueEventListener;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class CategoryDetailActivity extends AppCompatActivity implements QuoteAdapter.OnQuoteInteractionListener {
 
+    private static final int PAGE_SIZE = 20;
+    private static final int PREFETCH_DISTANCE = 5;
+
     private TextView categoryTitle;
     private TextView quoteCount;
     private ImageView backButton;
@@ -32,12 +40,22 @@ public class CategoryDetailActivity extends AppCompatActivity implements QuoteAd
     private TextView emptyState;
     private QuoteAdapter quoteAdapter;
     private List<Quote> categoryQuotesList;
-    private Set<String> likedQuoteIds;
+    private LikedQuotesStore.Observer likesObserver;
+    private final LikeWriteQueue.Listener likeFailureListener = quoteIds -> {
+        for (String quoteId : quoteIds) {
+            refreshQuoteLiked(quoteId);
+        }
+        Toast.makeText(this, "Failed to update favorites", Toast.LENGTH_SHORT).show();
+    };
     private DatabaseReference databaseReference;
     private FirebaseAuth mAuth;
     private String category;
     private String userId;
     private boolean defaultQuotesLoaded = false;
+    private boolean hasSynced = false;
+    private boolean isLoadingPage = false;
+    private boolean hasMorePages = true;
+    private long totalQuoteCount = -1;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -55,6 +73,7 @@ public class CategoryDetailActivity extends AppCompatActivity implements QuoteAd
         initializeFirebase();
         initializeViews();
         setupRecyclerView();
+        loadCategoryQuotes();
         authenticateUser();
     }
 
@@ -73,15 +92,27 @@ public class CategoryDetailActivity extends AppCompatActivity implements QuoteAd
 
         categoryTitle.setText(category);
         categoryQuotesList = new ArrayList<>();
-        likedQuoteIds = new HashSet<>();
 
         backButton.setOnClickListener(v -> finish());
     }
 
     private void setupRecyclerView() {
-        categoryQuotesRecyclerView.setLayoutManager(new LinearLayoutManager(this));
+        LinearLayoutManager layoutManager = new LinearLayoutManager(this);
+        categoryQuotesRecyclerView.setLayoutManager(layoutManager);
         quoteAdapter = new QuoteAdapter((QuoteAdapter.OnQuoteInteractionListener) this);
         categoryQuotesRecyclerView.setAdapter(quoteAdapter);
+
+        categoryQuotesRecyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (dy <= 0 || isLoadingPage || !hasMorePages) return;
+
+                int lastVisible = layoutManager.findLastVisibleItemPosition();
+                if (lastVisible >= quoteAdapter.getItemCount() - PREFETCH_DISTANCE) {
+                    loadNextPage();
+                }
+            }
+        });
     }
 
     private void authenticateUser() {
@@ -89,7 +120,8 @@ public class CategoryDetailActivity extends AppCompatActivity implements QuoteAd
         if (currentUser != null) {
             userId = currentUser.getUid();
             loadLikedQuotes();
-            loadCategoryQuotes();
+            loadQuoteCount();
+            syncQuotes();
         } else {
             signInAnonymously();
         }
@@ -103,7 +135,8 @@ public class CategoryDetailActivity extends AppCompatActivity implements QuoteAd
                         if (user != null) {
                             userId = user.getUid();
                             loadLikedQuotes();
-                            loadCategoryQuotes();
+                            loadQuoteCount();
+                            syncQuotes();
                         }
                     } else {
                         Toast.makeText(this, "Authentication failed", Toast.LENGTH_SHORT).show();
@@ -113,68 +146,158 @@ public class CategoryDetailActivity extends AppCompatActivity implements QuoteAd
     }
 
     private void loadLikedQuotes() {
-        if (userId == null) return;
+        if (userId == null || likesObserver != null) return;
 
-        DatabaseReference likesRef = databaseReference.child("users").child(userId).child("likedQuotes");
-        likesRef.addValueEventListener(new ValueEventListener() {
+        likesObserver = new LikedQuotesStore.Observer() {
             @Override
-            public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
-                likedQuoteIds.clear();
-                for (DataSnapshot snapshot : dataSnapshot.getChildren()) {
-                    Quote quote = snapshot.getValue(Quote.class);
-                    if (quote != null) {
-                        likedQuoteIds.add(quote.getId());
-                    }
-                }
-                updateQuotesLikedStatus();
+            public void onLikedQuoteAdded(Quote quote) {
+                refreshQuoteLiked(quote.getId());
             }
 
             @Override
-            public void onCancelled(@NonNull DatabaseError databaseError) {
+            public void onLikedQuoteChanged(Quote quote) {
+            }
+
+            @Override
+            public void onLikedQuoteRemoved(Quote quote) {
+                refreshQuoteLiked(quote.getId());
+            }
+
+            @Override
+            public void onLikedQuotesError(String error) {
                 Toast.makeText(CategoryDetailActivity.this, "Failed to load liked quotes",
                         Toast.LENGTH_SHORT).show();
             }
-        });
+        };
+        LikedQuotesStore.getInstance().subscribe(this, userId, likesObserver);
+        LikeWriteQueue.get(this).addListener(likeFailureListener);
     }
 
-    private void loadCategoryQuotes() {
-        showLoading();
+    // Pending taps win over what the store reports until they have been written.
+    private void refreshQuoteLiked(String quoteId) {
+        Quote quote = findQuoteById(quoteId);
+        boolean liked = LikeWriteQueue.get(this).isLiked(quoteId);
+        if (quote != null && quote.isLiked() != liked) {
+            quote.setLiked(liked);
+            quoteAdapter.setQuotes(categoryQuotesList);
+        }
+    }
 
-        databaseReference.child("quotes")
-                .orderByChild("category")
-                .equalTo(category)
+    // categoryCounts/{category}/count only covers quotes written since the counter was added, so it
+    // is shown once CategoryCountReconcile has marked it reconciled; until then the text falls
+    // back to the number of quotes paged in so far.
+    private void loadQuoteCount() {
+        databaseReference.child("categoryCounts").child(category)
                 .addListenerForSingleValueEvent(new ValueEventListener() {
                     @Override
                     public void onDataChange(@NonNull DataSnapshot snapshot) {
-                        categoryQuotesList.clear();
-
-                        if (!snapshot.exists() && !defaultQuotesLoaded) {
-                            loadDefaultQuotes();
-                            return;
+                        Long count = snapshot.child("count").getValue(Long.class);
+                        if (Boolean.TRUE.equals(snapshot.child("reconciled").getValue(Boolean.class))
+                                && count != null) {
+                            totalQuoteCount = count;
+                            updateQuoteCountText();
+                        } else {
+                            CategoryCountReconcile.runIfNeeded(databaseReference, category);
                         }
-
-                        for (DataSnapshot quoteSnapshot : snapshot.getChildren()) {
-                            Quote quote = quoteSnapshot.getValue(Quote.class);
-                            if (quote != null) {
-                                categoryQuotesList.add(quote);
-                            }
-                        }
-
-                        updateQuotesLikedStatus();
-                        updateUI();
-                        hideLoading();
                     }
 
                     @Override
                     public void onCancelled(@NonNull DatabaseError error) {
-                        Toast.makeText(CategoryDetailActivity.this,
-                                "Failed to load quotes: " + error.getMessage(),
-                                Toast.LENGTH_SHORT).show();
-                        hideLoading();
+                        totalQuoteCount = -1;
                     }
                 });
     }
 
+    // Quotes are read from LocalQuoteStore so the first page renders without a network round
+    // trip; syncQuotes() merges remote changes in and reloads only if this category changed.
+    private void syncQuotes() {
+        if (categoryQuotesList.isEmpty()) {
+            QuoteSync.get(this).syncCategory(category, PAGE_SIZE, new QuoteSync.Listener() {
+                @Override
+                public void onSyncComplete(Set<String> changedCategories) {
+                    if (isDestroyed() || !categoryQuotesList.isEmpty()) return;
+                    loadCategoryQuotes();
+                }
+
+                @Override
+                public void onSyncFailed(String error) {
+                }
+            });
+        }
+
+        QuoteSync.get(this).sync(new QuoteSync.Listener() {
+            @Override
+            public void onSyncComplete(Set<String> changedCategories) {
+                if (isDestroyed()) return;
+                hasSynced = true;
+                if (changedCategories.contains(category) || categoryQuotesList.isEmpty()) {
+                    loadCategoryQuotes();
+                }
+            }
+
+            @Override
+            public void onSyncFailed(String error) {
+                if (isDestroyed()) return;
+                hasSynced = true;
+                if (categoryQuotesList.isEmpty()) {
+                    Toast.makeText(CategoryDetailActivity.this,
+                            "Failed to load quotes: " + error, Toast.LENGTH_SHORT).show();
+                    hideLoading();
+                    updateUI();
+                }
+            }
+        });
+    }
+
+    private void loadCategoryQuotes() {
+        int limit = Math.max(PAGE_SIZE, categoryQuotesList.size());
+        isLoadingPage = true;
+        if (categoryQuotesList.isEmpty()) {
+            showLoading();
+        }
+
+        LocalQuoteStore.get(this).loadCategoryPage(category, null, limit, page -> {
+            if (isDestroyed()) return;
+            isLoadingPage = false;
+
+            if (page.isEmpty()) {
+                if (hasSynced && !defaultQuotesLoaded) {
+                    loadDefaultQuotes();
+                }
+                return;
+            }
+
+            categoryQuotesList.clear();
+            appendPage(page, limit);
+        });
+    }
+
+    private void loadNextPage() {
+        if (isLoadingPage || !hasMorePages || categoryQuotesList.isEmpty()) return;
+        isLoadingPage = true;
+
+        Quote cursor = categoryQuotesList.get(categoryQuotesList.size() - 1);
+        LocalQuoteStore.get(this).loadCategoryPage(category, cursor, PAGE_SIZE, page -> {
+            if (isDestroyed()) return;
+            isLoadingPage = false;
+            appendPage(page, PAGE_SIZE);
+        });
+    }
+
+    private void appendPage(List<Quote> page, int requested) {
+        LikeWriteQueue likeQueue = LikeWriteQueue.get(this);
+        for (Quote quote : page) {
+            quote.setLiked(likeQueue.isLiked(quote.getId()));
+        }
+
+        hasMorePages = page.size() == requested;
+        categoryQuotesList.addAll(page);
+        quoteAdapter.setQuotes(categoryQuotesList);
+
+        updateUI();
+        hideLoading();
+    }
+
     private void loadDefaultQuotes() {
         defaultQuotesLoaded = true;
         List<Quote> defaultQuotes = getDefaultQuotesForCategory(category);
@@ -185,49 +308,109 @@ public class CategoryDetailActivity extends AppCompatActivity implements QuoteAd
             return;
         }
 
-        int totalQuotes = defaultQuotes.size();
-        final int[] addedCount = {0};
-
+        long timestamp = System.currentTimeMillis();
         for (Quote quote : defaultQuotes) {
-            String quoteId = databaseReference.child("quotes").push().getKey();
-            if (quoteId != null) {
-                quote.setId(quoteId);
-                quote.setCategory(category);
-                quote.setTimestamp(System.currentTimeMillis());
-                quote.setUserId(userId);  // FIXED: Add userId to default quotes
-
-                databaseReference.child("quotes").child(quoteId).setValue(quote)
-                        .addOnSuccessListener(aVoid -> {
-                            addedCount[0]++;
-                            if (addedCount[0] == totalQuotes) {
-                                loadCategoryQuotes();
-                            }
-                        })
-                        .addOnFailureListener(e -> {
-                            addedCount[0]++;
-                            if (addedCount[0] == totalQuotes) {
-                                loadCategoryQuotes();
-                            }
-                        });
-            }
+            quote.setTimestamp(timestamp);
+            quote.setLiked(LikeWriteQueue.get(this).isLiked(quote.getId()));
         }
-    }
 
-    private void updateQuotesLikedStatus() {
-        for (Quote quote : categoryQuotesList) {
-            quote.setLiked(likedQuoteIds.contains(quote.getId()));
-        }
+        // The seed is identical on every client, so it can be shown right away; the write
+        // below only has to make it visible to other categories' queries and counters.
+        categoryQuotesList.clear();
+        categoryQuotesList.addAll(defaultQuotes);
+        hasMorePages = false;
+        totalQuoteCount = defaultQuotes.size();
         quoteAdapter.setQuotes(categoryQuotesList);
+        updateUI();
+        hideLoading();
+
+        LocalQuoteStore.get(this).upsert(defaultQuotes);
+        seedDefaultQuotes(defaultQuotes);
+    }
+
+    // seededCategories/{category} is claimed in a transaction so only one client ever writes
+    // the seed. The claim holds a token until the seed write lands, and that same write replaces
+    // it with the seed time; if the write fails the claim is released again, so a failed seed is
+    // retried by the next client instead of leaving the category marked but empty.
+    private void seedDefaultQuotes(List<Quote> defaultQuotes) {
+        String markerPath = "seededCategories/" + category;
+        String claim = databaseReference.child("seededCategories").push().getKey();
+        if (claim == null) return;
+
+        databaseReference.child(markerPath)
+                .runTransaction(new Transaction.Handler() {
+                    @NonNull
+                    @Override
+                    public Transaction.Result doTransaction(@NonNull MutableData currentData) {
+                        if (currentData.getValue() != null) {
+                            return Transaction.abort();
+                        }
+                        currentData.setValue(claim);
+                        return Transaction.success(currentData);
+                    }
+
+                    @Override
+                    public void onComplete(@Nullable DatabaseError error, boolean committed,
+                                           @Nullable DataSnapshot currentData) {
+                        if (error != null || !committed) return;
+
+                        Map<String, Object> updates = new HashMap<>();
+                        for (Quote quote : defaultQuotes) {
+                            updates.put("quotes/" + quote.getId(), QuoteWriteBatch.canonicalValue(quote));
+                            updates.put(QuoteWriteBatch.shardPath(category, quote.getId()),
+                                    SnapshotMappers.toMap(quote));
+                            String authorKey = QuoteWriteBatch.authorKey(quote.getAuthor());
+                            if (authorKey != null) {
+                                updates.put(QuoteWriteBatch.authorPath(authorKey, quote.getId()),
+                                        quote.getTimestamp());
+                            }
+                        }
+                        updates.put(QuoteWriteBatch.categoryCountPath(category),
+                                ServerValue.increment(defaultQuotes.size()));
+                        updates.put(QuoteWriteBatch.categoryWritesPath(category), ServerValue.increment(1));
+                        updates.put(markerPath, ServerValue.TIMESTAMP);
+                        databaseReference.updateChildren(updates)
+                                .addOnFailureListener(e -> releaseSeedClaim(markerPath, claim));
+                    }
+                });
+    }
+
+    private void releaseSeedClaim(String markerPath, String claim) {
+        databaseReference.child(markerPath).runTransaction(new Transaction.Handler() {
+            @NonNull
+            @Override
+            public Transaction.Result doTransaction(@NonNull MutableData currentData) {
+                if (!claim.equals(currentData.getValue())) {
+                    return Transaction.abort();
+                }
+                currentData.setValue(null);
+                return Transaction.success(currentData);
+            }
+
+            @Override
+            public void onComplete(@Nullable DatabaseError error, boolean committed,
+                                   @Nullable DataSnapshot currentData) {
+            }
+        });
     }
 
     private void updateUI() {
         if (categoryQuotesList.isEmpty()) {
             emptyState.setVisibility(View.VISIBLE);
             categoryQuotesRecyclerView.setVisibility(View.GONE);
-            quoteCount.setText("0 quotes");
         } else {
             emptyState.setVisibility(View.GONE);
             categoryQuotesRecyclerView.setVisibility(View.VISIBLE);
+        }
+        updateQuoteCountText();
+    }
+
+    private void updateQuoteCountText() {
+        if (totalQuoteCount >= 0) {
+            quoteCount.setText(totalQuoteCount + " quotes");
+        } else if (hasMorePages && !categoryQuotesList.isEmpty()) {
+            quoteCount.setText(categoryQuotesList.size() + "+ quotes");
+        } else {
             quoteCount.setText(categoryQuotesList.size() + " quotes");
         }
     }
@@ -242,116 +425,50 @@ public class CategoryDetailActivity extends AppCompatActivity implements QuoteAd
         loadingProgress.setVisibility(View.GONE);
     }
 
+    // The heart flips immediately; LikeWriteQueue batches the write and reports failures back.
     @Override
-    public void onLikeToggle(Quote quote, int position) {
+    public void onLikeToggle(Quote clickedQuote, int position) {
         if (userId == null) {
             Toast.makeText(this, "Please sign in first", Toast.LENGTH_SHORT).show();
             return;
         }
 
-        DatabaseReference quoteRef = databaseReference.child("users")
-                .child(userId)
-                .child("likedQuotes")
-                .child(quote.getId());
-
-        if (quote.isLiked()) {
-            quoteRef.removeValue()
-                    .addOnSuccessListener(aVoid -> {
-                        quote.setLiked(false);
-                        likedQuoteIds.remove(quote.getId());
-                        quoteAdapter.notifyItemChanged(position);
-                        Toast.makeText(this, "Removed from favorites", Toast.LENGTH_SHORT).show();
-                    })
-                    .addOnFailureListener(e -> {
-                        Toast.makeText(this, "Failed to remove quote", Toast.LENGTH_SHORT).show();
-                    });
-        } else {
-            quote.setLiked(true);
-            quote.setTimestamp(System.currentTimeMillis());
-
-            quoteRef.setValue(quote)
-                    .addOnSuccessListener(aVoid -> {
-                        likedQuoteIds.add(quote.getId());
-                        quoteAdapter.notifyItemChanged(position);
-                        Toast.makeText(this, "Added to favorites", Toast.LENGTH_SHORT).show();
-                    })
-                    .addOnFailureListener(e -> {
-                        quote.setLiked(false);
-                        quoteAdapter.notifyItemChanged(position);
-                        Toast.makeText(this, "Failed to add quote", Toast.LENGTH_SHORT).show();
-                    });
+        Quote quote = findQuoteById(clickedQuote.getId());
+        if (quote == null) return;
+
+        boolean liked = !quote.isLiked();
+        quote.setLiked(liked);
+        quoteAdapter.setQuotes(categoryQuotesList);
+        LikeWriteQueue.get(this).setLiked(userId, quote.getId(), liked);
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        LikeWriteQueue.get(this).removeListener(likeFailureListener);
+        if (likesObserver != null) {
+            LikedQuotesStore.getInstance().unsubscribe(likesObserver);
+            likesObserver = null;
         }
     }
 
-    private List<Quote> getDefaultQuotesForCategory(String category) {
-        List<Quote> quotes = new ArrayList<>();
-
-        switch (category) {
-            case "Wisdom":
-                quotes.add(new Quote("", "Honesty is the first chapter in the book of wisdom.", "Thomas Jefferson", "Wisdom", false, 0, userId));
-                quotes.add(new Quote("", "The art of being wise is the art of knowing what to overlook.", "William James", "Wisdom", false, 0, userId));
-                quotes.add(new Quote("", "Look for the answer inside your question.", "Rumi", "Wisdom", false, 0, userId));
-                quotes.add(new Quote("", "The years teach much which the days never know.", "Ralph Waldo Emerson", "Wisdom", false, 0, userId));
-                quotes.add(new Quote("", "The only true wisdom is in knowing you know nothing.", "Socrates", "Wisdom", false, 0, userId));
-                break;
-
-            case "Art":
-                quotes.add(new Quote("", "Reason is powerless in the expression of Love.", "Rumi", "Art", false, 0, userId));
-                quotes.add(new Quote("", "The secret of life is in art.", "Oscar Wilde", "Art", false, 0, userId));
-                quotes.add(new Quote("", "To create one's world in any of the arts takes courage.", "Georgia O'Keeffe", "Art", false, 0, userId));
-                quotes.add(new Quote("", "Art is not what you see, but what you make others see.", "Edgar Degas", "Art", false, 0, userId));
-                quotes.add(new Quote("", "Every artist was first an amateur.", "Ralph Waldo Emerson", "Art", false, 0, userId));
-                break;
-
-            case "Success":
-                quotes.add(new Quote("", "When it looks impossible and you are ready to quit, victory is near.", "Tony Robbins", "Success", false, 0, userId));
-                quotes.add(new Quote("", "Your time is limited, so don't waste it living someone else's life.", "Steve Jobs", "Success", false, 0, userId));
-                quotes.add(new Quote("", "If you can dream it, you can do it.", "Walt Disney", "Success", false, 0, userId));
-                quotes.add(new Quote("", "There is no elevator to success, you have to take the stairs.", "Zig Ziglar", "Success", false, 0, userId));
-                quotes.add(new Quote("", "Success is not final, failure is not fatal: it is the courage to continue that counts.", "Winston Churchill", "Success", false, 0, userId));
-                break;
-
-            case "Friendship":
-                quotes.add(new Quote("", "Friendship needs no words.", "Dag Hammarskjold", "Friendship", false, 0, userId));
-                quotes.add(new Quote("", "We do not remember days, we remember moments.", "Cesare Pavese", "Friendship", false, 0, userId));
-                quotes.add(new Quote("", "No friendship is an accident.", "O. Henry", "Friendship", false, 0, userId));
-                quotes.add(new Quote("", "Once you pledge, don't hedge.", "Nikita Khrushchev", "Friendship", false, 0, userId));
-                quotes.add(new Quote("", "A friend is someone who knows all about you and still loves you.", "Elbert Hubbard", "Friendship", false, 0, userId));
-                break;
-
-            case "Positive":
-                quotes.add(new Quote("", "Liberty means responsibility. That is why most people dread it.", "George Bernard Shaw", "Positive", false, 0, userId));
-                quotes.add(new Quote("", "Death is not the greatest loss in life. The greatest loss is what dies inside us while we live.", "Norman Cousins", "Positive", false, 0, userId));
-                quotes.add(new Quote("", "Life's most persistent and urgent question is, 'What are you doing for others?'", "Martin Luther King, Jr.", "Positive", false, 0, userId));
-                quotes.add(new Quote("", "You cannot do kindness too soon, for you never know how soon it will be too late.", "Ralph Waldo Emerson", "Positive", false, 0, userId));
-                quotes.add(new Quote("", "Keep your face always toward the sunshine and shadows will fall behind you.", "Walt Whitman", "Positive", false, 0, userId));
-                break;
-
-            case "Life":
-                quotes.add(new Quote("", "Life is divided into the horrible and the miserable.", "Woody Allen", "Life", false, 0, userId));
-                quotes.add(new Quote("", "A stumble may prevent a fall.", "Thomas Fuller", "Life", false, 0, userId));
-                quotes.add(new Quote("", "Nothing is an obstacle unless you say it is.", "Wally Amos", "Life", false, 0, userId));
-                quotes.add(new Quote("", "We are what we repeatedly do. Excellence, then, is not an act, but a habit.", "Aristotle", "Life", false, 0, userId));
-                quotes.add(new Quote("", "Life is what happens when you're busy making other plans.", "John Lennon", "Life", false, 0, userId));
-                break;
-
-            case "Motivation":
-                quotes.add(new Quote("", "The only way to do great work is to love what you do.", "Steve Jobs", "Motivation", false, 0, userId));
-                quotes.add(new Quote("", "Believe you can and you're halfway there.", "Theodore Roosevelt", "Motivation", false, 0, userId));
-                quotes.add(new Quote("", "Don't watch the clock; do what it does. Keep going.", "Sam Levenson", "Motivation", false, 0, userId));
-                quotes.add(new Quote("", "The future belongs to those who believe in the beauty of their dreams.", "Eleanor Roosevelt", "Motivation", false, 0, userId));
-                quotes.add(new Quote("", "It does not matter how slowly you go as long as you do not stop.", "Confucius", "Motivation", false, 0, userId));
-                break;
-
-            case "Love":
-                quotes.add(new Quote("", "Love is composed of a single soul inhabiting two bodies.", "Aristotle", "Love", false, 0, userId));
-                quotes.add(new Quote("", "The best thing to hold onto in life is each other.", "Audrey Hepburn", "Love", false, 0, userId));
-                quotes.add(new Quote("", "Love recognizes no barriers.", "Maya Angelou", "Love", false, 0, userId));
-                quotes.add(new Quote("", "Where there is love there is life.", "Mahatma Gandhi", "Love", false, 0, userId));
-                quotes.add(new Quote("", "Love is not only something you feel, it is something you do.", "David Wilkerson", "Love", false, 0, userId));
-                break;
+    private Quote findQuoteById(String quoteId) {
+        for (Quote quote : categoryQuotesList) {
+            if (quote.getId() != null && quote.getId().equals(quoteId)) {
+                return quote;
+            }
         }
+        return null;
+    }
 
+    private List<Quote> getDefaultQuotesForCategory(String category) {
+        QuoteCorpus.Slice slice = QuoteCorpus.get(this).getCategory(category);
+        List<Quote> quotes = new ArrayList<>(slice.size());
+        for (int i = 0; i < slice.size(); i++) {
+            Quote quote = slice.getQuote(i);
+            quote.setUserId(userId);
+            quotes.add(quote);
+        }
         return quotes;
     }
-}
\ No newline at end of file
+}
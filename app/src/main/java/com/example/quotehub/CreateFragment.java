@@ -1,28 +1,40 @@
 package com.example.quotehub;
 
+import android.content.Context;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.text.Editable;
 import android.text.TextWatcher;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ArrayAdapter;
+import android.widget.AutoCompleteTextView;
 import android.widget.Button;
 import android.widget.EditText;
+import android.widget.Filter;
 import android.widget.Spinner;
 import android.widget.TextView;
 import android.widget.Toast;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.appcompat.app.AlertDialog;
 import androidx.fragment.app.Fragment;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.database.DatabaseReference;
 import com.google.firebase.database.FirebaseDatabase;
+import java.util.ArrayList;
+import java.util.List;
 
 public class CreateFragment extends Fragment {
 
+    private static final long AUTHOR_LOOKUP_DELAY_MS = 150;
+    private static final int MAX_AUTHOR_SUGGESTIONS = 8;
+    private static final float DUPLICATE_SIMILARITY = 0.8f;
+
     private EditText quoteEditText;
-    private EditText authorEditText;
+    private AutoCompleteTextView authorEditText;
     private Spinner categorySpinner;
     private TextView charCountText;
     private Button createButton;
@@ -30,6 +42,10 @@ public class CreateFragment extends Fragment {
     private FirebaseAuth mAuth;
     private DatabaseReference mDatabase;
     private String userId;
+    private AuthorAdapter authorAdapter;
+    private SnapshotPipeline pipeline;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Runnable authorLookup = this::lookupAuthors;
 
     @Nullable
     @Override
@@ -41,11 +57,20 @@ public class CreateFragment extends Fragment {
         initializeViews(view);
         setupCategorySpinner();
         setupTextWatcher();
+        setupAuthorSuggestions();
         setupButtons();
 
         return view;
     }
 
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+        pipeline = new SnapshotPipeline(getViewLifecycleOwner());
+        DuplicateFinder.get(requireContext()).ensureIndexed();
+        AuthorSuggestions.get(requireContext()).ensureIndexed();
+    }
+
     private void initializeFirebase() {
         mAuth = FirebaseAuth.getInstance();
         mDatabase = FirebaseDatabase.getInstance().getReference();
@@ -101,6 +126,51 @@ public class CreateFragment extends Fragment {
         });
     }
 
+    // Suggests existing spellings of the author so the same person is not filed under several
+    // names. Lookups wait for a short pause in typing and run off the main thread; only the
+    // latest one is shown.
+    private void setupAuthorSuggestions() {
+        authorAdapter = new AuthorAdapter(requireContext());
+        authorEditText.setAdapter(authorAdapter);
+        authorEditText.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+            }
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+            }
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                mainHandler.removeCallbacks(authorLookup);
+                mainHandler.postDelayed(authorLookup, AUTHOR_LOOKUP_DELAY_MS);
+            }
+        });
+    }
+
+    private void lookupAuthors() {
+        if (pipeline == null) return;
+
+        String prefix = authorEditText.getText().toString();
+        if (prefix.trim().isEmpty()) {
+            pipeline.cancelAll();
+            authorAdapter.setAuthors(new ArrayList<>());
+            return;
+        }
+
+        AuthorSuggestions suggestions = AuthorSuggestions.get(requireContext());
+        pipeline.submit("authors", () -> suggestions.lookup(prefix, MAX_AUTHOR_SUGGESTIONS), authors -> {
+            authorAdapter.setAuthors(authors);
+            boolean alreadyChosen = authors.size() == 1 && authors.get(0).equals(prefix.trim());
+            if (authors.isEmpty() || alreadyChosen) {
+                authorEditText.dismissDropDown();
+            } else if (authorEditText.hasFocus()) {
+                authorEditText.showDropDown();
+            }
+        });
+    }
+
     private void setupButtons() {
         createButton.setOnClickListener(v -> createQuote());
         deleteButton.setOnClickListener(v -> clearFields());
@@ -131,44 +201,68 @@ public class CreateFragment extends Fragment {
             return;
         }
 
+        checkForDuplicates(quoteText, author, category);
+    }
+
+    // The same famous quote keeps being re-typed with different punctuation or casing. Before
+    // writing, look for a near-identical quote and offer to like that one instead.
+    private void checkForDuplicates(String quoteText, String author, String category) {
+        if (pipeline == null) return;
+
+        createButton.setEnabled(false);
+        createButton.setText("Checking...");
+
+        DuplicateFinder finder = DuplicateFinder.get(requireContext());
+        pipeline.submit("duplicates", () -> finder.find(quoteText, DUPLICATE_SIMILARITY, 1), matches -> {
+            if (matches.isEmpty()) {
+                writeQuote(quoteText, author, category);
+                return;
+            }
+
+            createButton.setEnabled(true);
+            createButton.setText("Create");
+            offerExistingQuote(matches.get(0).quote, quoteText, author, category);
+        });
+    }
+
+    private void offerExistingQuote(Quote existing, String quoteText, String author, String category) {
+        new AlertDialog.Builder(requireContext())
+                .setTitle("Similar quote found")
+                .setMessage("\"" + existing.getText() + "\" - " + existing.getAuthor()
+                        + "\n\nLike this quote instead of creating a copy?")
+                .setPositiveButton("Like it", (dialog, which) -> {
+                    LikeWriteQueue.get(requireContext()).setLiked(userId, existing.getId(), true);
+                    Toast.makeText(getContext(), "Added to your liked quotes", Toast.LENGTH_SHORT).show();
+                    resetFields();
+                })
+                .setNeutralButton("Create anyway", (dialog, which) -> writeQuote(quoteText, author, category))
+                .setNegativeButton("Cancel", null)
+                .show();
+    }
+
+    private void writeQuote(String quoteText, String author, String category) {
         createButton.setEnabled(false);
         createButton.setText("Creating...");
 
-        String quoteId = mDatabase.child("quotes").push().getKey();
+        QuoteWriteBatch batch = new QuoteWriteBatch(mDatabase);
+        String quoteId = batch.newQuoteId();
         if (quoteId != null) {
             long timestamp = System.currentTimeMillis();
 
             Quote quote = new Quote(quoteId, quoteText, author, category, false, timestamp, userId);
 
-            mDatabase.child("quotes").child(quoteId).setValue(quote)
+            batch.createQuote(quote, userId)
+                    .logActivity(userId, "Quote Created", "Created quote in " + category + " category", quoteId, timestamp)
+                    .commit()
                     .addOnSuccessListener(aVoid -> {
-                        // Save to user's custom quotes
-                        mDatabase.child("users").child(userId).child("customQuotes").child(quoteId)
-                                .setValue(quote)
-                                .addOnSuccessListener(aVoid2 -> {
-
-                                    addActivityLog("Quote Created", "Created quote in " + category + " category", quoteId, timestamp);
-
-                                    Toast.makeText(getContext(), "✓ Quote created successfully!", Toast.LENGTH_SHORT).show();
-                                    clearFields();
-                                    createButton.setEnabled(true);
-                                    createButton.setText("Create");
-
-
-                                    if (getActivity() != null) {
-                                        ((MainActivity) getActivity()).getSupportFragmentManager()
-                                                .beginTransaction()
-                                                .replace(R.id.fragmentContainer, new HomeFragment())
-                                                .commit();
-                                        ((MainActivity) getActivity()).findViewById(R.id.bottomNavigation)
-                                                .findViewById(R.id.nav_home).performClick();
-                                    }
-                                })
-                                .addOnFailureListener(e -> {
-                                    Toast.makeText(getContext(), "Failed to save to your quotes", Toast.LENGTH_SHORT).show();
-                                    createButton.setEnabled(true);
-                                    createButton.setText("Create");
-                                });
+                        Toast.makeText(getContext(), "✓ Quote created successfully!", Toast.LENGTH_SHORT).show();
+                        clearFields();
+                        createButton.setEnabled(true);
+                        createButton.setText("Create");
+
+                        if (getActivity() != null) {
+                            ((MainActivity) getActivity()).selectTab(R.id.nav_home);
+                        }
                     })
                     .addOnFailureListener(e -> {
                         Toast.makeText(getContext(), "Failed to create quote: " + e.getMessage(), Toast.LENGTH_SHORT).show();
@@ -178,22 +272,66 @@ public class CreateFragment extends Fragment {
         }
     }
 
-    private void addActivityLog(String action, String description, String quoteId, long timestamp) {
-        if (userId == null) return;
-
-        String activityId = mDatabase.child("users").child(userId).child("activityLog").push().getKey();
-        if (activityId != null) {
-            ActivityLog log = new ActivityLog(activityId, action, description, timestamp, quoteId);
-            mDatabase.child("users").child(userId).child("activityLog").child(activityId)
-                    .setValue(log);
-        }
+    private void clearFields() {
+        resetFields();
+        Toast.makeText(getContext(), "✓ Fields cleared", Toast.LENGTH_SHORT).show();
     }
 
-    private void clearFields() {
+    private void resetFields() {
         quoteEditText.setText("");
         authorEditText.setText("");
         categorySpinner.setSelection(0);
         charCountText.setText("0/280");
-        Toast.makeText(getContext(), "✓ Fields cleared", Toast.LENGTH_SHORT).show();
     }
-}
\ No newline at end of file
+
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        mainHandler.removeCallbacks(authorLookup);
+        pipeline = null;
+    }
+
+    // The list is already filtered by AuthorSuggestions, so the built-in filter passes it through.
+    private static class AuthorAdapter extends ArrayAdapter<String> {
+        private List<String> authors = new ArrayList<>();
+
+        AuthorAdapter(Context context) {
+            super(context, android.R.layout.simple_dropdown_item_1line);
+        }
+
+        void setAuthors(List<String> authors) {
+            this.authors = authors;
+            notifyDataSetChanged();
+        }
+
+        @Override
+        public int getCount() {
+            return authors.size();
+        }
+
+        @Override
+        public String getItem(int position) {
+            return authors.get(position);
+        }
+
+        @NonNull
+        @Override
+        public Filter getFilter() {
+            return new Filter() {
+                @Override
+                protected FilterResults performFiltering(CharSequence constraint) {
+                    FilterResults results = new FilterResults();
+                    List<String> current = authors;
+                    results.values = current;
+                    results.count = current.size();
+                    return results;
+                }
+
+                @Override
+                protected void publishResults(CharSequence constraint, FilterResults results) {
+                    notifyDataSetChanged();
+                }
+            };
+        }
+    }
+}
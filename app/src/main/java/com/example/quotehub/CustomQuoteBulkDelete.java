@@ -0,0 +1,198 @@
+package com.example.quotehub;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import androidx.annotation.NonNull;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.Query;
+import com.google.firebase.database.ValueEventListener;
+import java.util.HashMap;
+import java.util.Map;
+
+// Deletes all of a user's custom quotes in chunks. Each chunk is read in key order and removed
+// with one QuoteWriteBatch, which covers quotes/, the category shard, the author index, the
+// tombstone, the counters and the customQuotes entry. At most MAX_IN_FLIGHT chunk writes are
+// outstanding at once.
+// A pending flag in SharedPreferences marks an unfinished run; resume() picks it up again, and
+// since finished chunks are already gone it simply continues with whatever is left.
+// Confined to the main thread; one run per process.
+public class CustomQuoteBulkDelete {
+
+    public interface Listener {
+        void onProgress(long deleted, long total);
+        void onComplete(long deleted);
+        void onError(String error);
+    }
+
+    private static final int CHUNK_SIZE = 200;
+    private static final int MAX_IN_FLIGHT = 2;
+    private static final String PREFS_NAME = "custom_quote_bulk_delete";
+    private static final String KEY_PENDING_USER = "pending_user";
+
+    private static CustomQuoteBulkDelete running;
+
+    private final SharedPreferences prefs;
+    private final DatabaseReference root;
+    private final String userId;
+    private Listener listener;
+
+    private String cursor;
+    private boolean reading = false;
+    private boolean exhausted = false;
+    private boolean failed = false;
+    private boolean finishing = false;
+    private int inFlight = 0;
+    private long deleted = 0;
+    private long total = 0;
+
+    private CustomQuoteBulkDelete(Context context, DatabaseReference root, String userId) {
+        this.prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        this.root = root;
+        this.userId = userId;
+    }
+
+    public static void start(Context context, DatabaseReference root, String userId, Listener listener) {
+        if (running != null) {
+            running.listener = listener;
+            return;
+        }
+        running = new CustomQuoteBulkDelete(context.getApplicationContext(), root, userId);
+        running.listener = listener;
+        running.run();
+    }
+
+    // Continues a run that was interrupted, e.g. by process death, for the same user.
+    public static void resume(Context context, DatabaseReference root, String userId, Listener listener) {
+        SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        if (userId != null && userId.equals(prefs.getString(KEY_PENDING_USER, null))) {
+            start(context, root, userId, listener);
+        }
+    }
+
+    // Re-attaches a screen to a run in progress; returns false if nothing is running.
+    public static boolean attach(Listener listener) {
+        if (running == null) return false;
+        running.listener = listener;
+        return true;
+    }
+
+    public static void detach(Listener listener) {
+        if (running != null && running.listener == listener) {
+            running.listener = null;
+        }
+    }
+
+    private void run() {
+        prefs.edit().putString(KEY_PENDING_USER, userId).apply();
+
+        root.child("users").child(userId).child("stats").child("customQuotes")
+                .addListenerForSingleValueEvent(new ValueEventListener() {
+                    @Override
+                    public void onDataChange(@NonNull DataSnapshot snapshot) {
+                        Long count = snapshot.getValue(Long.class);
+                        total = count != null ? Math.max(count, 0) : 0;
+                        readNextChunk();
+                    }
+
+                    @Override
+                    public void onCancelled(@NonNull DatabaseError error) {
+                        readNextChunk();
+                    }
+                });
+    }
+
+    private void readNextChunk() {
+        if (reading || exhausted || failed || inFlight >= MAX_IN_FLIGHT) return;
+        reading = true;
+
+        DatabaseReference customQuotesRef = root.child("users").child(userId).child("customQuotes");
+        // startAt() includes the cursor row itself, so ask for one extra and skip it.
+        Query chunk = cursor == null
+                ? customQuotesRef.orderByKey().limitToFirst(CHUNK_SIZE)
+                : customQuotesRef.orderByKey().startAt(cursor).limitToFirst(CHUNK_SIZE + 1);
+
+        chunk.addListenerForSingleValueEvent(new ValueEventListener() {
+            @Override
+            public void onDataChange(@NonNull DataSnapshot snapshot) {
+                reading = false;
+
+                QuoteWriteBatch batch = new QuoteWriteBatch(root);
+                int count = 0;
+                for (DataSnapshot quoteSnapshot : snapshot.getChildren()) {
+                    String quoteId = quoteSnapshot.getKey();
+                    if (quoteId == null || quoteId.equals(cursor)) continue;
+
+                    String category = quoteSnapshot.child("category").getValue(String.class);
+                    String author = quoteSnapshot.child("author").getValue(String.class);
+                    batch.deleteQuote(quoteId, category, author, userId);
+                    cursor = quoteId;
+                    count++;
+                }
+
+                if (count < CHUNK_SIZE) {
+                    exhausted = true;
+                }
+                if (count > 0) {
+                    deleteChunk(batch, count);
+                }
+                readNextChunk();
+                finishIfDone();
+            }
+
+            @Override
+            public void onCancelled(@NonNull DatabaseError error) {
+                reading = false;
+                fail(error.getMessage());
+            }
+        });
+    }
+
+    private void deleteChunk(QuoteWriteBatch batch, int count) {
+        inFlight++;
+        batch.commit()
+                .addOnSuccessListener(aVoid -> {
+                    inFlight--;
+                    deleted += count;
+                    total = Math.max(total, deleted);
+                    if (listener != null) {
+                        listener.onProgress(deleted, total);
+                    }
+                    readNextChunk();
+                    finishIfDone();
+                })
+                .addOnFailureListener(e -> {
+                    inFlight--;
+                    fail(e.getMessage());
+                });
+    }
+
+    private void finishIfDone() {
+        if (!exhausted || inFlight > 0 || reading || failed || finishing) return;
+        finishing = true;
+
+        Map<String, Object> updates = new HashMap<>();
+        updates.put(UserStats.customQuotesPath(userId), 0);
+        updates.put("users/" + userId + "/activityLog", null);
+        root.updateChildren(updates)
+                .addOnSuccessListener(aVoid -> {
+                    prefs.edit().remove(KEY_PENDING_USER).apply();
+                    running = null;
+                    if (listener != null) {
+                        listener.onComplete(deleted);
+                    }
+                })
+                .addOnFailureListener(e -> fail(e.getMessage()));
+    }
+
+    // The pending flag stays set, so the next resume() starts over on whatever is left.
+    private void fail(String error) {
+        if (failed) return;
+        failed = true;
+        running = null;
+        if (listener != null) {
+            listener.onError(error);
+        }
+    }
+}
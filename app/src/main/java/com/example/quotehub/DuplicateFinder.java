@@ -0,0 +1,62 @@
+package com.example.quotehub;
+
+import android.content.Context;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Finds existing quotes that a new one nearly duplicates, over the built-in corpus and the
+// on-device copy of quotes/. Built lazily like QuoteSearch and kept current through
+// LocalQuoteStore's change notifications.
+public class DuplicateFinder {
+
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    private static DuplicateFinder instance;
+
+    private final Context context;
+    private final MinHashIndex index = new MinHashIndex();
+    private final ExecutorService corpusExecutor = Executors.newSingleThreadExecutor();
+    private boolean started = false;
+
+    private DuplicateFinder(Context context) {
+        this.context = context;
+    }
+
+    public static synchronized DuplicateFinder get(Context context) {
+        if (instance == null) {
+            instance = new DuplicateFinder(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    public synchronized void ensureIndexed() {
+        if (started) return;
+        started = true;
+
+        corpusExecutor.execute(() -> {
+            QuoteCorpus corpus = QuoteCorpus.get(context);
+            for (String category : corpus.getCategories()) {
+                QuoteCorpus.Slice slice = corpus.getCategory(category);
+                for (int i = 0; i < slice.size(); i++) {
+                    index.put(slice.getQuote(i));
+                }
+            }
+        });
+
+        LocalQuoteStore store = LocalQuoteStore.get(context);
+        store.addChangeListener((changed, deletedIds) -> {
+            for (String quoteId : deletedIds) {
+                index.remove(quoteId);
+            }
+            index.putAll(changed);
+        });
+        store.scan(SCAN_BATCH_SIZE, index::putAll);
+    }
+
+    // Blocking; call from a background thread such as a SnapshotPipeline stage.
+    public List<MinHashIndex.Match> find(String text, float minSimilarity, int limit) {
+        ensureIndexed();
+        return index.findSimilar(text, minSimilarity, limit);
+    }
+}
@@ -20,12 +20,14 @@ import com.google.firebase.database.DataSnapshot;
 import com.google.firebase.database.DatabaseError;
 import com.google.firebase.database.DatabaseReference;
 import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.Query;
 import com.google.firebase.database.ValueEventListener;
 
 public class HomeFragment extends Fragment {
 
     private CardView wisdomCard, artCard, successCard, friendshipCard;
     private TextView viewAllText;
+    private TextView searchEntry;
     private TextView userQuoteText;
     private ImageView editQuoteButton, deleteQuoteButton;
     private LinearLayout quoteActionsLayout;
@@ -33,6 +35,9 @@ public class HomeFragment extends Fragment {
     private FirebaseAuth mAuth;
     private String userId;
     private String currentQuoteId;
+    private String currentQuoteCategory;
+    private String currentQuoteAuthor;
+    private ListenerRegistry listeners;
 
     @Nullable
     @Override
@@ -44,11 +49,32 @@ public class HomeFragment extends Fragment {
         initializeViews(view);
         setupCategoryCards();
         setupQuoteActions();
-        loadUserCustomQuote();
 
         return view;
     }
 
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+        listeners = new ListenerRegistry(getViewLifecycleOwner());
+        if (!isHidden()) {
+            loadUserCustomQuote();
+        }
+    }
+
+    // MainActivity keeps this tab alive while hidden; stop listening until it is shown again.
+    @Override
+    public void onHiddenChanged(boolean hidden) {
+        super.onHiddenChanged(hidden);
+        if (listeners == null) return;
+
+        if (hidden) {
+            listeners.removeAll();
+        } else {
+            loadUserCustomQuote();
+        }
+    }
+
     private void initializeFirebase() {
         mAuth = FirebaseAuth.getInstance();
         mDatabase = FirebaseDatabase.getInstance().getReference();
@@ -63,6 +89,7 @@ public class HomeFragment extends Fragment {
         successCard = view.findViewById(R.id.successCard);
         friendshipCard = view.findViewById(R.id.friendshipCard);
         viewAllText = view.findViewById(R.id.viewAllText);
+        searchEntry = view.findViewById(R.id.searchEntry);
         userQuoteText = view.findViewById(R.id.userQuoteText);
         editQuoteButton = view.findViewById(R.id.editQuoteButton);
         deleteQuoteButton = view.findViewById(R.id.deleteQuoteButton);
@@ -75,14 +102,11 @@ public class HomeFragment extends Fragment {
         successCard.setOnClickListener(v -> navigateToCategoryDetail("Success"));
         friendshipCard.setOnClickListener(v -> navigateToCategoryDetail("Friendship"));
 
+        searchEntry.setOnClickListener(v -> startActivity(new Intent(getActivity(), SearchActivity.class)));
+
         viewAllText.setOnClickListener(v -> {
             if (getActivity() != null) {
-                ((MainActivity) getActivity()).getSupportFragmentManager()
-                        .beginTransaction()
-                        .replace(R.id.fragmentContainer, new CategoriesFragment())
-                        .commit();
-                ((MainActivity) getActivity()).findViewById(R.id.bottomNavigation)
-                        .findViewById(R.id.nav_categories).performClick();
+                ((MainActivity) getActivity()).selectTab(R.id.nav_categories);
             }
         });
     }
@@ -105,35 +129,39 @@ public class HomeFragment extends Fragment {
             return;
         }
 
-        mDatabase.child("users").child(userId).child("customQuotes")
+        Query latestQuote = mDatabase.child("users").child(userId).child("customQuotes")
                 .orderByChild("timestamp")
-                .limitToLast(1)
-                .addValueEventListener(new ValueEventListener() {
-                    @Override
-                    public void onDataChange(@NonNull DataSnapshot snapshot) {
-                        if (snapshot.exists() && snapshot.getChildrenCount() > 0) {
-                            for (DataSnapshot quoteSnapshot : snapshot.getChildren()) {
-                                Quote quote = quoteSnapshot.getValue(Quote.class);
-                                if (quote != null) {
-                                    currentQuoteId = quote.getId();
-                                    String displayText = "\"" + quote.getText() + "\" - " + quote.getAuthor();
-                                    userQuoteText.setText(displayText);
-                                    quoteActionsLayout.setVisibility(View.VISIBLE);
-                                }
-                            }
-                        } else {
-                            userQuoteText.setText("Create your own quote in the Create tab");
-                            quoteActionsLayout.setVisibility(View.GONE);
-                            currentQuoteId = null;
+                .limitToLast(1);
+        listeners.addValueEventListener(latestQuote, new ValueEventListener() {
+            @Override
+            public void onDataChange(@NonNull DataSnapshot snapshot) {
+                if (snapshot.exists() && snapshot.getChildrenCount() > 0) {
+                    for (DataSnapshot quoteSnapshot : snapshot.getChildren()) {
+                        Quote quote = SnapshotMappers.toQuote(quoteSnapshot);
+                        if (quote != null) {
+                            currentQuoteId = quote.getId();
+                            currentQuoteCategory = quote.getCategory();
+                            currentQuoteAuthor = quote.getAuthor();
+                            String displayText = "\"" + quote.getText() + "\" - " + quote.getAuthor();
+                            userQuoteText.setText(displayText);
+                            quoteActionsLayout.setVisibility(View.VISIBLE);
                         }
                     }
+                } else {
+                    userQuoteText.setText("Create your own quote in the Create tab");
+                    quoteActionsLayout.setVisibility(View.GONE);
+                    currentQuoteId = null;
+                    currentQuoteCategory = null;
+                    currentQuoteAuthor = null;
+                }
+            }
 
-                    @Override
-                    public void onCancelled(@NonNull DatabaseError error) {
-                        userQuoteText.setText("Failed to load custom quote");
-                        quoteActionsLayout.setVisibility(View.GONE);
-                    }
-                });
+            @Override
+            public void onCancelled(@NonNull DatabaseError error) {
+                userQuoteText.setText("Failed to load custom quote");
+                quoteActionsLayout.setVisibility(View.GONE);
+            }
+        });
     }
 
     private void showEditQuoteDialog() {
@@ -143,7 +171,7 @@ public class HomeFragment extends Fragment {
                 .addListenerForSingleValueEvent(new ValueEventListener() {
                     @Override
                     public void onDataChange(@NonNull DataSnapshot snapshot) {
-                        Quote quote = snapshot.getValue(Quote.class);
+                        Quote quote = SnapshotMappers.toQuote(snapshot);
                         if (quote != null) {
                             showEditDialog(quote);
                         }
@@ -173,7 +201,7 @@ public class HomeFragment extends Fragment {
                     String newAuthor = authorEditText.getText().toString().trim();
 
                     if (!newText.isEmpty() && !newAuthor.isEmpty()) {
-                        updateQuote(quote.getId(), newText, newAuthor, quote.getCategory());
+                        updateQuote(quote, newText, newAuthor);
                     } else {
                         Toast.makeText(getContext(), "Fields cannot be empty", Toast.LENGTH_SHORT).show();
                     }
@@ -182,16 +210,15 @@ public class HomeFragment extends Fragment {
                 .show();
     }
 
-    private void updateQuote(String quoteId, String text, String author, String category) {
-        Quote updatedQuote = new Quote(quoteId, text, author, category, false, System.currentTimeMillis());
-
-        mDatabase.child("quotes").child(quoteId).setValue(updatedQuote);
+    private void updateQuote(Quote quote, String text, String author) {
+        Quote updatedQuote = new Quote(quote.getId(), text, author, quote.getCategory(), false,
+                System.currentTimeMillis(), userId);
 
-        mDatabase.child("users").child(userId).child("customQuotes").child(quoteId)
-                .setValue(updatedQuote)
+        new QuoteWriteBatch(mDatabase)
+                .updateQuote(updatedQuote, quote.getAuthor(), userId)
+                .commit()
                 .addOnSuccessListener(aVoid -> {
                     Toast.makeText(getContext(), "Quote updated successfully", Toast.LENGTH_SHORT).show();
-                    loadUserCustomQuote();
                 })
                 .addOnFailureListener(e -> {
                     Toast.makeText(getContext(), "Failed to update quote", Toast.LENGTH_SHORT).show();
@@ -212,23 +239,15 @@ public class HomeFragment extends Fragment {
     private void deleteQuote() {
         if (currentQuoteId == null || userId == null) return;
 
-        mDatabase.child("quotes").child(currentQuoteId).removeValue();
-
-        mDatabase.child("users").child(userId).child("customQuotes").child(currentQuoteId)
-                .removeValue()
+        new QuoteWriteBatch(mDatabase)
+                .deleteQuote(currentQuoteId, currentQuoteCategory, currentQuoteAuthor, userId)
+                .commit()
                 .addOnSuccessListener(aVoid -> {
+                    // The latestQuote listener has already moved the card and its fields on.
                     Toast.makeText(getContext(), "Quote deleted successfully", Toast.LENGTH_SHORT).show();
-                    currentQuoteId = null;
-                    loadUserCustomQuote();
                 })
                 .addOnFailureListener(e -> {
                     Toast.makeText(getContext(), "Failed to delete quote", Toast.LENGTH_SHORT).show();
                 });
     }
-
-    @Override
-    public void onResume() {
-        super.onResume();
-        loadUserCustomQuote();
-    }
 }
\ No newline at end of file
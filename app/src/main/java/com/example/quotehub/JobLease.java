@@ -0,0 +1,115 @@
+package com.example.quotehub;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.MutableData;
+import com.google.firebase.database.Transaction;
+import com.google.firebase.database.ValueEventListener;
+import java.util.HashMap;
+import java.util.Map;
+
+// Time-limited claim on a shared background job, so only one client at a time walks the data
+// while every other client skips it. The lease node holds {token, expiresAt}; it is taken in a
+// transaction when empty, expired or already ours, and the holder renews it before each step.
+// expiresAt is on the server clock (device time corrected by .info/serverTimeOffset), so a
+// client whose clock is off cannot steal or overstay a lease. A holder that dies simply lets
+// the lease run out.
+public class JobLease {
+
+    public interface Callback {
+        void onResult(boolean held);
+    }
+
+    private final DatabaseReference ownerRef;
+    private final long ttlMs;
+    private final String token;
+    private long serverTimeOffset = 0;
+    private boolean offsetKnown = false;
+
+    public JobLease(DatabaseReference ownerRef, long ttlMs) {
+        this.ownerRef = ownerRef;
+        this.ttlMs = ttlMs;
+        this.token = ownerRef.push().getKey();
+    }
+
+    // Takes the lease or extends the one already held.
+    public void acquire(Callback callback) {
+        if (token == null) {
+            callback.onResult(false);
+            return;
+        }
+        if (offsetKnown) {
+            claim(callback);
+            return;
+        }
+
+        FirebaseDatabase.getInstance().getReference(".info/serverTimeOffset")
+                .addListenerForSingleValueEvent(new ValueEventListener() {
+                    @Override
+                    public void onDataChange(@NonNull DataSnapshot snapshot) {
+                        Object offset = snapshot.getValue();
+                        serverTimeOffset = offset instanceof Number ? ((Number) offset).longValue() : 0;
+                        offsetKnown = true;
+                        claim(callback);
+                    }
+
+                    @Override
+                    public void onCancelled(@NonNull DatabaseError error) {
+                        callback.onResult(false);
+                    }
+                });
+    }
+
+    // Frees the lease early if it is still ours, so the next client need not wait for expiry.
+    public void release() {
+        if (token == null) return;
+        ownerRef.runTransaction(new Transaction.Handler() {
+            @NonNull
+            @Override
+            public Transaction.Result doTransaction(@NonNull MutableData currentData) {
+                if (!token.equals(currentData.child("token").getValue(String.class))) {
+                    return Transaction.abort();
+                }
+                currentData.setValue(null);
+                return Transaction.success(currentData);
+            }
+
+            @Override
+            public void onComplete(@Nullable DatabaseError error, boolean committed,
+                                   @Nullable DataSnapshot currentData) {
+            }
+        });
+    }
+
+    private void claim(Callback callback) {
+        ownerRef.runTransaction(new Transaction.Handler() {
+            @NonNull
+            @Override
+            public Transaction.Result doTransaction(@NonNull MutableData currentData) {
+                long now = System.currentTimeMillis() + serverTimeOffset;
+                String holder = currentData.child("token").getValue(String.class);
+                Long expiresAt = currentData.child("expiresAt").getValue(Long.class);
+                boolean free = holder == null || expiresAt == null || expiresAt <= now;
+                if (!free && !token.equals(holder)) {
+                    return Transaction.abort();
+                }
+
+                Map<String, Object> lease = new HashMap<>();
+                lease.put("token", token);
+                lease.put("expiresAt", now + ttlMs);
+                currentData.setValue(lease);
+                return Transaction.success(currentData);
+            }
+
+            @Override
+            public void onComplete(@Nullable DatabaseError error, boolean committed,
+                                   @Nullable DataSnapshot currentData) {
+                callback.onResult(error == null && committed);
+            }
+        });
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.quotehub;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
+import com.google.firebase.database.FirebaseDatabase;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// Write-behind queue for heart taps. Screens flip the icon straight away and call setLiked();
+// the queue keeps only the latest wanted state per quote and, after a short quiet window, sends
+// every quote whose wanted state differs from LikedQuotesStore in one updateChildren(). A
+// like -> unlike -> like burst therefore sends one write, or none if it ends where it started.
+// Pending entries are kept in SharedPreferences, keyed by uid, until their write is acknowledged,
+// so taps made just before process death or a sign-out still land the next time that user is
+// signed in here.
+// Confined to the main thread.
+public class LikeWriteQueue {
+
+    public interface Listener {
+        // The write for these quotes failed; their liked state is back to the confirmed value.
+        void onLikeWriteFailed(Set<String> quoteIds);
+    }
+
+    private static final long COALESCE_WINDOW_MS = 600;
+    private static final String PREFS_NAME = "like_write_queue";
+    // Preference keys are {uid}/{quoteId}; neither part can contain a slash.
+    private static final String KEY_SEPARATOR = "/";
+
+    private static LikeWriteQueue instance;
+
+    private final SharedPreferences prefs;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Map<String, Long> pending = new LinkedHashMap<>();
+    private final List<Listener> listeners = new ArrayList<>();
+    private final Runnable flushRunnable = this::flush;
+    private String userId;
+    private boolean flushing = false;
+
+    private LikeWriteQueue(Context context) {
+        prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+
+    public static synchronized LikeWriteQueue get(Context context) {
+        if (instance == null) {
+            instance = new LikeWriteQueue(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    public void addListener(Listener listener) {
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    // Liked state including taps that have not been written yet.
+    public boolean isLiked(String quoteId) {
+        if (pending.containsKey(quoteId)) {
+            return pending.get(quoteId) != null;
+        }
+        return LikedQuotesStore.getInstance().isLiked(quoteId);
+    }
+
+    public void setLiked(String userId, String quoteId, boolean liked) {
+        if (userId == null || quoteId == null) return;
+
+        bind(userId);
+
+        Long likedAt = liked ? System.currentTimeMillis() : null;
+        pending.put(quoteId, likedAt);
+        prefs.edit().putString(prefKey(userId, quoteId), encode(likedAt)).apply();
+
+        mainHandler.removeCallbacks(flushRunnable);
+        mainHandler.postDelayed(flushRunnable, COALESCE_WINDOW_MS);
+    }
+
+    // Sends what userId left over from a previous process or session once the liked store is
+    // available.
+    public void flushSoon(String userId) {
+        if (userId == null) return;
+        bind(userId);
+        if (pending.isEmpty()) return;
+        mainHandler.removeCallbacks(flushRunnable);
+        mainHandler.postDelayed(flushRunnable, COALESCE_WINDOW_MS);
+    }
+
+    public void flushNow() {
+        mainHandler.removeCallbacks(flushRunnable);
+        flush();
+    }
+
+    private void flush() {
+        if (pending.isEmpty() || userId == null) return;
+
+        LikedQuotesStore store = LikedQuotesStore.getInstance();
+        if (flushing || !store.isLoaded(userId)) {
+            // Wait for the in-flight batch, or for the store's initial load: it decides what
+            // actually changed, and a partly loaded store would re-send likes and drop unlikes.
+            mainHandler.removeCallbacks(flushRunnable);
+            mainHandler.postDelayed(flushRunnable, COALESCE_WINDOW_MS);
+            return;
+        }
+
+        Map<String, Object> updates = new HashMap<>();
+        Set<String> sent = new HashSet<>();
+        SharedPreferences.Editor editor = prefs.edit();
+        for (Map.Entry<String, Long> entry : pending.entrySet()) {
+            String quoteId = entry.getKey();
+            boolean wantLiked = entry.getValue() != null;
+            if (wantLiked == store.isLiked(quoteId)) {
+                editor.remove(prefKey(userId, quoteId));
+                continue;
+            }
+
+            if (wantLiked) {
+                LikedQuotesStore.putLike(updates, userId, quoteId, entry.getValue());
+            } else {
+                LikedQuotesStore.putUnlike(updates, userId, quoteId, store.getLikedAt(quoteId));
+            }
+            sent.add(quoteId);
+        }
+        pending.clear();
+        editor.apply();
+
+        if (updates.isEmpty()) return;
+
+        // Until the store reports the write back, isLiked() must keep answering with what was sent.
+        Map<String, Long> inFlight = new HashMap<>();
+        for (String quoteId : sent) {
+            Object value = updates.get("users/" + userId + "/likedQuotes/" + quoteId);
+            inFlight.put(quoteId, value instanceof Long ? (Long) value : null);
+        }
+        pending.putAll(inFlight);
+        flushing = true;
+        String flushUserId = userId;
+
+        FirebaseDatabase.getInstance().getReference().updateChildren(updates)
+                .addOnSuccessListener(aVoid -> {
+                    flushing = false;
+                    settle(flushUserId, inFlight);
+                })
+                .addOnFailureListener(e -> {
+                    flushing = false;
+                    settle(flushUserId, inFlight);
+                    for (Listener listener : new ArrayList<>(listeners)) {
+                        listener.onLikeWriteFailed(inFlight.keySet());
+                    }
+                });
+    }
+
+    // Drops in-flight entries, in memory and on disk, that were not tapped again while the write
+    // was running; a re-tapped entry keeps its newer state for the next flush. The user may have
+    // switched meanwhile, in which case only their stored entries are left to clear.
+    private void settle(String flushUserId, Map<String, Long> inFlight) {
+        boolean current = flushUserId.equals(userId);
+        SharedPreferences.Editor editor = prefs.edit();
+        for (Map.Entry<String, Long> entry : inFlight.entrySet()) {
+            String quoteId = entry.getKey();
+            String key = prefKey(flushUserId, quoteId);
+            boolean unchanged = current
+                    ? pending.containsKey(quoteId) && Objects.equals(pending.get(quoteId), entry.getValue())
+                    : encode(entry.getValue()).equals(prefs.getString(key, null));
+            if (unchanged) {
+                if (current) {
+                    pending.remove(quoteId);
+                }
+                editor.remove(key);
+            }
+        }
+        editor.apply();
+    }
+
+    // Switches to userId's taps. The previous user's unsent taps stay in SharedPreferences under
+    // their uid rather than being sent now: the write would go out under the new user's auth and
+    // be rejected. They are sent the next time that user is signed in here.
+    private void bind(String userId) {
+        if (userId.equals(this.userId)) return;
+
+        mainHandler.removeCallbacks(flushRunnable);
+        this.userId = userId;
+        pending.clear();
+        String prefix = userId + KEY_SEPARATOR;
+        for (Map.Entry<String, ?> entry : prefs.getAll().entrySet()) {
+            if (!entry.getKey().startsWith(prefix) || !(entry.getValue() instanceof String)) continue;
+
+            String value = (String) entry.getValue();
+            pending.put(entry.getKey().substring(prefix.length()), value.isEmpty() ? null : Long.valueOf(value));
+        }
+    }
+
+    private static String prefKey(String userId, String quoteId) {
+        return userId + KEY_SEPARATOR + quoteId;
+    }
+
+    // An unlike is stored as an empty string.
+    private static String encode(Long likedAt) {
+        return likedAt != null ? String.valueOf(likedAt) : "";
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.quotehub;
 
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -15,15 +17,11 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseUser;
-import com.google.firebase.database.DataSnapshot;
-import com.google.firebase.database.DatabaseError;
-import com.google.firebase.database.DatabaseReference;
-import com.google.firebase.database.FirebaseDatabase;
-import com.google.firebase.database.ValueEventListener;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class LikedFragment extends Fragment {
 
@@ -36,9 +34,16 @@ public class LikedFragment extends Fragment {
     private QuoteAdapter quoteAdapter;
     private List<Quote> likedQuoteList;
     private FirebaseAuth mAuth;
-    private DatabaseReference mDatabase;
     private String userId;
     private Map<String, Integer> categoryCount;
+    private Map<String, Quote> likedQuotesById;
+    private LikedQuotesStore.Observer likesObserver;
+    // Store events arrive one quote at a time (the whole list at once on subscribe), so the
+    // adapter gets a single submit per main-loop pass instead of one full-list diff per event.
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Runnable submitRunnable = this::submitQuotes;
+    private boolean submitScheduled = false;
+    private final LikeWriteQueue.Listener unlikeFailureListener = this::restoreLikedQuotes;
 
     @Nullable
     @Override
@@ -57,7 +62,6 @@ public class LikedFragment extends Fragment {
 
     private void initializeFirebase() {
         mAuth = FirebaseAuth.getInstance();
-        mDatabase = FirebaseDatabase.getInstance().getReference();
         FirebaseUser currentUser = mAuth.getCurrentUser();
         if (currentUser != null) {
             userId = currentUser.getUid();
@@ -73,6 +77,7 @@ public class LikedFragment extends Fragment {
         totalCategoriesText = view.findViewById(R.id.totalCategoriesCount);
         likedQuoteList = new ArrayList<>();
         categoryCount = new HashMap<>();
+        likedQuotesById = new HashMap<>();
     }
 
     private void setupRecyclerView() {
@@ -128,69 +133,150 @@ public class LikedFragment extends Fragment {
             showEmptyView();
             return;
         }
+        if (likesObserver != null) return;
 
-        DatabaseReference likesRef = mDatabase.child("users").child(userId).child("likedQuotes");
-        likesRef.addValueEventListener(new ValueEventListener() {
+        showEmptyView();
+        likesObserver = new LikedQuotesStore.Observer() {
             @Override
-            public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
-                likedQuoteList.clear();
-                categoryCount.clear();
-
-                for (DataSnapshot snapshot : dataSnapshot.getChildren()) {
-                    Quote quote = snapshot.getValue(Quote.class);
-                    if (quote != null) {
-                        quote.setLiked(true);
-                        likedQuoteList.add(quote);
-
-                        String category = quote.getCategory();
-                        if (category != null) {
-                            categoryCount.put(category, categoryCount.getOrDefault(category, 0) + 1);
-                        }
-                    }
-                }
+            public void onLikedQuoteAdded(Quote quote) {
+                // An unlike tapped here but not yet written keeps the quote out of the list.
+                if (likedQuotesById.containsKey(quote.getId()) || !isStillLiked(quote.getId())) return;
+                insertLikedQuote(quote.getId(), quote);
+                scheduleSubmit();
+            }
 
-                updateCardTexts();
+            @Override
+            public void onLikedQuoteChanged(Quote quote) {
+                if (!removeLikedQuote(quote.getId())) return;
+                insertLikedQuote(quote.getId(), quote);
+                scheduleSubmit();
+            }
 
-                if (likedQuoteList.isEmpty()) {
-                    showEmptyView();
-                } else {
-                    hideEmptyView();
+            @Override
+            public void onLikedQuoteRemoved(Quote quote) {
+                if (removeLikedQuote(quote.getId())) {
+                    scheduleSubmit();
                 }
-
-                quoteAdapter.notifyDataSetChanged();
             }
 
             @Override
-            public void onCancelled(@NonNull DatabaseError databaseError) {
+            public void onLikedQuotesError(String error) {
                 Toast.makeText(getContext(), "Failed to load liked quotes", Toast.LENGTH_SHORT).show();
             }
-        });
+        };
+        LikedQuotesStore.getInstance().subscribe(requireContext(), userId, likesObserver);
+        LikeWriteQueue.get(requireContext()).addListener(unlikeFailureListener);
+    }
+
+    private void scheduleSubmit() {
+        if (submitScheduled) return;
+        submitScheduled = true;
+        mainHandler.post(submitRunnable);
+    }
+
+    private void submitQuotes() {
+        submitScheduled = false;
+        quoteAdapter.setQuotes(likedQuoteList);
+    }
+
+    private boolean isStillLiked(String quoteId) {
+        return getContext() == null || LikeWriteQueue.get(getContext()).isLiked(quoteId);
+    }
+
+    // The queued unlike for these quotes failed; put back the ones the store still holds.
+    private void restoreLikedQuotes(Set<String> quoteIds) {
+        boolean restored = false;
+        for (Quote quote : LikedQuotesStore.getInstance().getLikedQuotes()) {
+            if (quoteIds.contains(quote.getId()) && !likedQuotesById.containsKey(quote.getId())) {
+                insertLikedQuote(quote.getId(), quote);
+                restored = true;
+            }
+        }
+        if (restored) {
+            scheduleSubmit();
+            Toast.makeText(getContext(), "Failed to remove quote", Toast.LENGTH_SHORT).show();
+        }
+    }
+
+    // Newest like first; binary search keeps each insert O(log n) instead of a full re-sort.
+    private void insertLikedQuote(String key, Quote quote) {
+        int low = 0;
+        int high = likedQuoteList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (likedQuoteList.get(mid).getTimestamp() >= quote.getTimestamp()) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        likedQuoteList.add(low, quote);
+        likedQuotesById.put(key, quote);
+
+        int previousCategories = categoryCount.size();
+        String category = quote.getCategory();
+        if (category != null) {
+            categoryCount.put(category, categoryCount.getOrDefault(category, 0) + 1);
+        }
+
+        updateTotalLikedCard();
+        if (categoryCount.size() != previousCategories) {
+            updateCategoriesCard();
+        }
+        if (likedQuoteList.size() == 1) {
+            hideEmptyView();
+        }
     }
 
-    private void updateCardTexts() {
+    private boolean removeLikedQuote(String key) {
+        Quote removed = likedQuotesById.remove(key);
+        if (removed == null) return false;
+
+        likedQuoteList.remove(removed);
+
+        int previousCategories = categoryCount.size();
+        String category = removed.getCategory();
+        if (category != null) {
+            int remaining = categoryCount.getOrDefault(category, 0) - 1;
+            if (remaining > 0) {
+                categoryCount.put(category, remaining);
+            } else {
+                categoryCount.remove(category);
+            }
+        }
+
+        updateTotalLikedCard();
+        if (categoryCount.size() != previousCategories) {
+            updateCategoriesCard();
+        }
+        if (likedQuoteList.isEmpty()) {
+            showEmptyView();
+        }
+        return true;
+    }
+
+    private void updateTotalLikedCard() {
         if (totalLikedText != null) {
             totalLikedText.setText(String.valueOf(likedQuoteList.size()));
         }
+    }
+
+    private void updateCategoriesCard() {
         if (totalCategoriesText != null) {
             totalCategoriesText.setText(String.valueOf(categoryCount.size()));
         }
     }
 
+    // Goes through LikeWriteQueue like every other heart tap, so the counters are adjusted from
+    // the store's confirmed likedAt and a quick unlike/like pair never reaches the network.
     private void unlikeQuote(Quote quote, int position) {
         if (userId == null) return;
 
-        DatabaseReference quoteRef = mDatabase.child("users")
-                .child(userId)
-                .child("likedQuotes")
-                .child(quote.getId());
-
-        quoteRef.removeValue()
-                .addOnSuccessListener(aVoid -> {
-                    Toast.makeText(getContext(), "Quote removed from favorites", Toast.LENGTH_SHORT).show();
-                })
-                .addOnFailureListener(e -> {
-                    Toast.makeText(getContext(), "Failed to remove quote", Toast.LENGTH_SHORT).show();
-                });
+        LikeWriteQueue.get(requireContext()).setLiked(userId, quote.getId(), false);
+        if (removeLikedQuote(quote.getId())) {
+            scheduleSubmit();
+        }
+        Toast.makeText(getContext(), "Quote removed from favorites", Toast.LENGTH_SHORT).show();
     }
 
     private void deleteQuote(Quote quote, int position) {
@@ -214,4 +300,21 @@ public class LikedFragment extends Fragment {
             loadLikedQuotes();
         }
     }
+
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        mainHandler.removeCallbacks(submitRunnable);
+        submitScheduled = false;
+        if (getContext() != null) {
+            LikeWriteQueue.get(getContext()).removeListener(unlikeFailureListener);
+        }
+        if (likesObserver != null) {
+            LikedQuotesStore.getInstance().unsubscribe(likesObserver);
+        }
+        likesObserver = null;
+        likedQuoteList.clear();
+        likedQuotesById.clear();
+        categoryCount.clear();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,342 @@
+package com.example.quotehub;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.firebase.database.ChildEventListener;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.ServerValue;
+import com.google.firebase.database.ValueEventListener;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Single process-wide subscription to users/{uid}/likedQuotes shared by every screen.
+// The Firebase listener is attached on the first subscribe() and removed on the last unsubscribe().
+//
+// Likes are stored as references, users/{uid}/likedQuotes/{quoteId} = likedAt, and bodies come
+// from QuoteResolver. Observers hear about a like once its body is resolved; isLiked() and
+// getLikedAt() answer as soon as the reference arrives. Older full-quote copies are still read,
+// and are rewritten to references once the canonical quote is confirmed to exist, or folded
+// into the built-in quote they duplicate (see compactBuiltInCopies()).
+public class LikedQuotesStore {
+
+    public interface Observer {
+        void onLikedQuoteAdded(Quote quote);
+        void onLikedQuoteChanged(Quote quote);
+        void onLikedQuoteRemoved(Quote quote);
+        void onLikedQuotesError(String error);
+    }
+
+    private static LikedQuotesStore instance;
+
+    private final Map<String, Long> likedAt = new LinkedHashMap<>();
+    private final Map<String, Quote> likedQuotes = new LinkedHashMap<>();
+    private final List<Observer> observers = new ArrayList<>();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Set<String> pendingResolve = new HashSet<>();
+    private final Set<String> legacyCopies = new HashSet<>();
+    private boolean resolveScheduled = false;
+    private boolean loaded = false;
+    private int generation = 0;
+    private QuoteResolver resolver;
+    private String userId;
+    private DatabaseReference likesRef;
+    private ChildEventListener likesListener;
+
+    private LikedQuotesStore() {
+    }
+
+    public static synchronized LikedQuotesStore getInstance() {
+        if (instance == null) {
+            instance = new LikedQuotesStore();
+        }
+        return instance;
+    }
+
+    public static void putLike(Map<String, Object> updates, String userId, String quoteId, long likedAt) {
+        updates.put("users/" + userId + "/likedQuotes/" + quoteId, likedAt);
+        UserStats.putLike(updates, userId, likedAt);
+    }
+
+    public static void putUnlike(Map<String, Object> updates, String userId, String quoteId, Long likedAt) {
+        updates.put("users/" + userId + "/likedQuotes/" + quoteId, null);
+        UserStats.putUnlike(updates, userId, likedAt);
+    }
+
+    public void subscribe(Context context, String userId, Observer observer) {
+        if (userId == null || observer == null || observers.contains(observer)) return;
+
+        if (resolver == null) {
+            resolver = QuoteResolver.get(context);
+        }
+        if (!userId.equals(this.userId)) {
+            detach();
+            this.userId = userId;
+        }
+
+        observers.add(observer);
+        for (Quote quote : new ArrayList<>(likedQuotes.values())) {
+            observer.onLikedQuoteAdded(quote);
+        }
+
+        if (likesListener == null) {
+            attach();
+        }
+    }
+
+    public void unsubscribe(Observer observer) {
+        if (!observers.remove(observer)) return;
+
+        if (observers.isEmpty()) {
+            detach();
+            userId = null;
+        }
+    }
+
+    public boolean isSubscribed(String userId) {
+        return likesListener != null && userId != null && userId.equals(this.userId);
+    }
+
+    // True once every like that existed when the listener was attached has been delivered, so
+    // isLiked() is a complete answer rather than "not seen yet".
+    public boolean isLoaded(String userId) {
+        return loaded && isSubscribed(userId);
+    }
+
+    public boolean isLiked(String quoteId) {
+        return quoteId != null && likedAt.containsKey(quoteId);
+    }
+
+    public Long getLikedAt(String quoteId) {
+        return quoteId != null ? likedAt.get(quoteId) : null;
+    }
+
+    public int getLikedCount() {
+        return likedAt.size();
+    }
+
+    public Collection<Quote> getLikedQuotes() {
+        return Collections.unmodifiableCollection(likedQuotes.values());
+    }
+
+    private void attach() {
+        likesRef = FirebaseDatabase.getInstance().getReference()
+                .child("users").child(userId).child("likedQuotes");
+        likesListener = likesRef.addChildEventListener(new ChildEventListener() {
+            @Override
+            public void onChildAdded(@NonNull DataSnapshot snapshot, @Nullable String previousChildName) {
+                onLikeChanged(snapshot);
+            }
+
+            @Override
+            public void onChildChanged(@NonNull DataSnapshot snapshot, @Nullable String previousChildName) {
+                onLikeChanged(snapshot);
+            }
+
+            @Override
+            public void onChildRemoved(@NonNull DataSnapshot snapshot) {
+                String quoteId = snapshot.getKey();
+                likedAt.remove(quoteId);
+                pendingResolve.remove(quoteId);
+                legacyCopies.remove(quoteId);
+                Quote quote = likedQuotes.remove(quoteId);
+                if (quote == null) return;
+
+                for (Observer observer : new ArrayList<>(observers)) {
+                    observer.onLikedQuoteRemoved(quote);
+                }
+            }
+
+            @Override
+            public void onChildMoved(@NonNull DataSnapshot snapshot, @Nullable String previousChildName) {
+            }
+
+            @Override
+            public void onCancelled(@NonNull DatabaseError error) {
+                for (Observer observer : new ArrayList<>(observers)) {
+                    observer.onLikedQuotesError(error.getMessage());
+                }
+            }
+        });
+
+        // Value events for a location are raised after its child events, so by the time this
+        // single read arrives the initial onChildAdded() calls have all been made.
+        int attachGeneration = generation;
+        likesRef.addListenerForSingleValueEvent(new ValueEventListener() {
+            @Override
+            public void onDataChange(@NonNull DataSnapshot snapshot) {
+                if (attachGeneration == generation) {
+                    loaded = true;
+                }
+            }
+
+            @Override
+            public void onCancelled(@NonNull DatabaseError error) {
+            }
+        });
+    }
+
+    private void onLikeChanged(DataSnapshot snapshot) {
+        String quoteId = snapshot.getKey();
+        Object value = snapshot.getValue();
+        if (quoteId == null || value == null) return;
+
+        if (value instanceof Number) {
+            long time = ((Number) value).longValue();
+            Long previous = likedAt.put(quoteId, time);
+            Quote known = likedQuotes.get(quoteId);
+            if (known == null) {
+                pendingResolve.add(quoteId);
+                scheduleResolve();
+            } else if (previous == null || previous != time) {
+                known.setTimestamp(time);
+                publish(known, true);
+            }
+            return;
+        }
+
+        // Legacy full copy: its own fields are the body until the reference rewrite lands.
+        Quote quote = SnapshotMappers.toQuote(quoteId, value);
+        if (quote == null) return;
+        quote.setLiked(true);
+        boolean existed = likedQuotes.containsKey(quoteId);
+        likedAt.put(quoteId, quote.getTimestamp());
+        likedQuotes.put(quoteId, quote);
+        publish(quote, existed);
+
+        legacyCopies.add(quoteId);
+        pendingResolve.add(quoteId);
+        scheduleResolve();
+    }
+
+    private void scheduleResolve() {
+        if (resolveScheduled) return;
+        resolveScheduled = true;
+        mainHandler.post(this::resolvePending);
+    }
+
+    private void resolvePending() {
+        resolveScheduled = false;
+        if (pendingResolve.isEmpty() || resolver == null) return;
+
+        Set<String> batch = new HashSet<>(pendingResolve);
+        pendingResolve.clear();
+        int resolveGeneration = generation;
+
+        resolver.resolve(batch, quotes -> {
+            if (resolveGeneration != generation) return;
+
+            Map<String, Object> rewrites = new HashMap<>();
+            List<Quote> orphanCopies = new ArrayList<>();
+            for (String quoteId : batch) {
+                Long time = likedAt.get(quoteId);
+                Quote body = quotes.get(quoteId);
+                if (time == null) continue;
+                if (body == null) {
+                    Quote copy = likedQuotes.get(quoteId);
+                    if (copy != null && legacyCopies.contains(quoteId)) {
+                        orphanCopies.add(copy);
+                    }
+                    continue;
+                }
+
+                if (legacyCopies.remove(quoteId)) {
+                    rewrites.put(quoteId, time);
+                    continue;
+                }
+                body.setLiked(true);
+                body.setTimestamp(time);
+                boolean existed = likedQuotes.containsKey(quoteId);
+                likedQuotes.put(quoteId, body);
+                publish(body, existed);
+            }
+
+            if (!rewrites.isEmpty() && likesRef != null) {
+                likesRef.updateChildren(rewrites);
+            }
+            compactBuiltInCopies(orphanCopies);
+        });
+    }
+
+    // Static-page likes used to be saved under a fresh push key on every tap, so one built-in
+    // quote could be liked several times over. Each such copy is folded into a single reference
+    // under the quote's content-derived id, keeping the earliest likedAt, and the counters are
+    // adjusted in the same write.
+    private void compactBuiltInCopies(List<Quote> copies) {
+        Map<String, Long> merged = new HashMap<>();
+        Map<String, Long> counterDeltas = new HashMap<>();
+        Map<String, Object> updates = new HashMap<>();
+        String base = "users/" + userId + "/";
+
+        for (Quote copy : copies) {
+            Quote builtIn = resolver.findBuiltIn(copy.getText(), copy.getAuthor());
+            if (builtIn == null) continue;
+
+            legacyCopies.remove(copy.getId());
+            updates.put(base + "likedQuotes/" + copy.getId(), null);
+            addDelta(counterDeltas, base + "stats/totalLikes", -1);
+            addDelta(counterDeltas, base + "likesByDay/" + UserStats.dayKey(copy.getTimestamp()), -1);
+
+            String builtInId = builtIn.getId();
+            if (!likedAt.containsKey(builtInId)) {
+                Long earliest = merged.get(builtInId);
+                if (earliest == null || copy.getTimestamp() < earliest) {
+                    merged.put(builtInId, copy.getTimestamp());
+                }
+            }
+        }
+        if (updates.isEmpty()) return;
+
+        for (Map.Entry<String, Long> entry : merged.entrySet()) {
+            updates.put(base + "likedQuotes/" + entry.getKey(), entry.getValue());
+            addDelta(counterDeltas, base + "stats/totalLikes", 1);
+            addDelta(counterDeltas, base + "likesByDay/" + UserStats.dayKey(entry.getValue()), 1);
+        }
+        for (Map.Entry<String, Long> delta : counterDeltas.entrySet()) {
+            if (delta.getValue() != 0) {
+                updates.put(delta.getKey(), ServerValue.increment(delta.getValue()));
+            }
+        }
+        FirebaseDatabase.getInstance().getReference().updateChildren(updates);
+    }
+
+    private static void addDelta(Map<String, Long> deltas, String path, long delta) {
+        deltas.put(path, deltas.getOrDefault(path, 0L) + delta);
+    }
+
+    private void publish(Quote quote, boolean existed) {
+        for (Observer observer : new ArrayList<>(observers)) {
+            if (existed) {
+                observer.onLikedQuoteChanged(quote);
+            } else {
+                observer.onLikedQuoteAdded(quote);
+            }
+        }
+    }
+
+    private void detach() {
+        if (likesRef != null && likesListener != null) {
+            likesRef.removeEventListener(likesListener);
+        }
+        likesRef = null;
+        likesListener = null;
+        loaded = false;
+        likedAt.clear();
+        likedQuotes.clear();
+        pendingResolve.clear();
+        legacyCopies.clear();
+        generation++;
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.quotehub;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
+import com.google.firebase.database.ChildEventListener;
+import com.google.firebase.database.Query;
+import com.google.firebase.database.ValueEventListener;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// Owns the Firebase listeners of one screen. Each add call returns a Registration that the caller
+// keeps and hands back to remove() when it wants to swap or drop that listener, so a load method
+// that runs again (e.g. from onResume) replaces its own listener instead of stacking another.
+// Listeners are attached only while the owner is started: onStop detaches them and onStart
+// attaches the same set again. removeAll() forgets them, and onDestroy does so for good.
+public class ListenerRegistry implements DefaultLifecycleObserver {
+
+    // One listener on one query; split out so the registry can be tested without a database.
+    interface Binding {
+        void attach();
+        void detach();
+    }
+
+    private static int liveListenerCount;
+
+    // Handle for one added listener.
+    public static final class Registration {
+        private final Binding binding;
+
+        private Registration(Binding binding) {
+            this.binding = binding;
+        }
+    }
+
+    private final Set<Registration> registrations = new LinkedHashSet<>();
+    private boolean started = false;
+
+    public ListenerRegistry(LifecycleOwner owner) {
+        owner.getLifecycle().addObserver(this);
+    }
+
+    ListenerRegistry() {
+    }
+
+    // Listeners currently attached across every registry.
+    public static int getLiveListenerCount() {
+        return liveListenerCount;
+    }
+
+    public Registration addValueEventListener(Query query, ValueEventListener listener) {
+        return register(new Binding() {
+            @Override
+            public void attach() {
+                query.addValueEventListener(listener);
+            }
+
+            @Override
+            public void detach() {
+                query.removeEventListener(listener);
+            }
+        });
+    }
+
+    public Registration addChildEventListener(Query query, ChildEventListener listener) {
+        return register(new Binding() {
+            @Override
+            public void attach() {
+                query.addChildEventListener(listener);
+            }
+
+            @Override
+            public void detach() {
+                query.removeEventListener(listener);
+            }
+        });
+    }
+
+    Registration register(Binding binding) {
+        Registration registration = new Registration(binding);
+        registrations.add(registration);
+        if (started) {
+            attach(binding);
+        }
+        return registration;
+    }
+
+    // Detaches and forgets one listener; null or an already removed registration is ignored.
+    public void remove(Registration registration) {
+        if (registration == null || !registrations.remove(registration)) return;
+        if (started) {
+            detach(registration.binding);
+        }
+    }
+
+    int size() {
+        return registrations.size();
+    }
+
+    public void removeAll() {
+        if (started) {
+            for (Registration registration : registrations) {
+                detach(registration.binding);
+            }
+        }
+        registrations.clear();
+    }
+
+    @Override
+    public void onStart(@NonNull LifecycleOwner owner) {
+        if (started) return;
+        started = true;
+        for (Registration registration : registrations) {
+            attach(registration.binding);
+        }
+    }
+
+    @Override
+    public void onStop(@NonNull LifecycleOwner owner) {
+        if (!started) return;
+        for (Registration registration : registrations) {
+            detach(registration.binding);
+        }
+        started = false;
+    }
+
+    @Override
+    public void onDestroy(@NonNull LifecycleOwner owner) {
+        removeAll();
+        owner.getLifecycle().removeObserver(this);
+    }
+
+    private static void attach(Binding binding) {
+        binding.attach();
+        liveListenerCount++;
+    }
+
+    private static void detach(Binding binding) {
+        binding.detach();
+        liveListenerCount--;
+    }
+}
@@ -0,0 +1,322 @@
+package com.example.quotehub;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.os.Handler;
+import android.os.Looper;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// On-device copy of quotes/ that screens read from first. All database work runs on one
+// background thread; results are delivered on the main thread.
+public class LocalQuoteStore {
+
+    public interface Callback<T> {
+        void onResult(T result);
+    }
+
+    // Called on the store's background thread, in commit order, after each write lands.
+    public interface ChangeListener {
+        void onQuotesChanged(List<Quote> changed, List<String> deletedIds);
+    }
+
+    // Called on the store's background thread with consecutive batches of stored quotes.
+    public interface ScanVisitor {
+        void visit(List<Quote> batch);
+    }
+
+    // Position of the last row QuoteSync has applied from one server stream, as the stream's
+    // (sort value, key) pair. The value is null for rows that sort before any value is set.
+    public static final class SyncCursor {
+        public final Long value;
+        public final String key;
+
+        public SyncCursor(Long value, String key) {
+            this.value = value;
+            this.key = key;
+        }
+
+        String encode() {
+            return (value != null ? value.toString() : "") + "|" + key;
+        }
+
+        static SyncCursor decode(String encoded) {
+            int separator = encoded.indexOf('|');
+            if (separator < 0) return null;
+            String value = encoded.substring(0, separator);
+            return new SyncCursor(value.isEmpty() ? null : Long.parseLong(value),
+                    encoded.substring(separator + 1));
+        }
+    }
+
+    private static final long PAGE_CACHE_TTL_MS = 60_000;
+    private static final int PAGE_CACHE_MAX_ENTRIES = 32;
+    // SQLite's default limit on bound parameters is 999.
+    private static final int MAX_QUERY_ARGS = 500;
+
+    private static LocalQuoteStore instance;
+
+    private final QuoteDatabase database;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final QueryCache<List<Quote>> pageCache = new QueryCache<>(PAGE_CACHE_TTL_MS, PAGE_CACHE_MAX_ENTRIES);
+    private final List<ChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+    private LocalQuoteStore(Context context) {
+        database = new QuoteDatabase(context);
+    }
+
+    public static synchronized LocalQuoteStore get(Context context) {
+        if (instance == null) {
+            instance = new LocalQuoteStore(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    // Keyset page ordered by (timestamp, id); pass the last quote of the previous page as the cursor.
+    // Pages are served from pageCache when fresh; callers get their own copies to mutate.
+    public void loadCategoryPage(String category, Quote after, int limit, Callback<List<Quote>> callback) {
+        String key = categoryKey(category) + (after != null ? after.getId() : "") + "|" + limit;
+        pageCache.get(key, done -> queryCategoryPage(category, after, limit, done),
+                page -> callback.onResult(copyOf(page)));
+    }
+
+    public QueryCache<List<Quote>> getPageCache() {
+        return pageCache;
+    }
+
+    public void addChangeListener(ChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    public void removeChangeListener(ChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    // Walks every stored quote in id order. Each batch is its own task, so writes queued meanwhile
+    // are not held up behind a full scan; a ChangeListener registered before the scan starts sees
+    // any write the scan has already passed.
+    public void scan(int batchSize, ScanVisitor visitor) {
+        executor.execute(() -> scanFrom(null, batchSize, visitor));
+    }
+
+    private void scanFrom(String afterId, int batchSize, ScanVisitor visitor) {
+        List<Quote> batch = new ArrayList<>();
+        try (Cursor cursor = database.getReadableDatabase().query(QuoteDatabase.TABLE_QUOTES, null,
+                afterId != null ? QuoteDatabase.COLUMN_ID + " > ?" : null,
+                afterId != null ? new String[]{afterId} : null,
+                null, null, QuoteDatabase.COLUMN_ID, String.valueOf(batchSize))) {
+            while (cursor.moveToNext()) {
+                batch.add(readQuote(cursor));
+            }
+        }
+        if (batch.isEmpty()) return;
+
+        visitor.visit(batch);
+        if (batch.size() == batchSize) {
+            String lastId = batch.get(batch.size() - 1).getId();
+            executor.execute(() -> scanFrom(lastId, batchSize, visitor));
+        }
+    }
+
+    private void queryCategoryPage(String category, Quote after, int limit, Callback<List<Quote>> callback) {
+        executor.execute(() -> {
+            String selection;
+            String[] args;
+            if (after == null) {
+                selection = QuoteDatabase.COLUMN_CATEGORY + " = ?";
+                args = new String[]{category};
+            } else {
+                selection = QuoteDatabase.COLUMN_CATEGORY + " = ? AND ("
+                        + QuoteDatabase.COLUMN_TIMESTAMP + " > ? OR ("
+                        + QuoteDatabase.COLUMN_TIMESTAMP + " = ? AND " + QuoteDatabase.COLUMN_ID + " > ?))";
+                String timestamp = String.valueOf(after.getTimestamp());
+                args = new String[]{category, timestamp, timestamp, after.getId()};
+            }
+
+            List<Quote> quotes = new ArrayList<>();
+            try (Cursor cursor = database.getReadableDatabase().query(QuoteDatabase.TABLE_QUOTES, null,
+                    selection, args, null, null,
+                    QuoteDatabase.COLUMN_TIMESTAMP + ", " + QuoteDatabase.COLUMN_ID,
+                    String.valueOf(limit))) {
+                while (cursor.moveToNext()) {
+                    quotes.add(readQuote(cursor));
+                }
+            }
+            mainHandler.post(() -> callback.onResult(quotes));
+        });
+    }
+
+    public void loadQuotesByIds(Collection<String> quoteIds, Callback<Map<String, Quote>> callback) {
+        List<String> ids = new ArrayList<>(quoteIds);
+        executor.execute(() -> {
+            Map<String, Quote> quotes = new HashMap<>();
+            SQLiteDatabase db = database.getReadableDatabase();
+            for (int start = 0; start < ids.size(); start += MAX_QUERY_ARGS) {
+                List<String> chunk = ids.subList(start, Math.min(start + MAX_QUERY_ARGS, ids.size()));
+                StringBuilder placeholders = new StringBuilder();
+                for (int i = 0; i < chunk.size(); i++) {
+                    placeholders.append(i == 0 ? "?" : ",?");
+                }
+                try (Cursor cursor = db.query(QuoteDatabase.TABLE_QUOTES, null,
+                        QuoteDatabase.COLUMN_ID + " IN (" + placeholders + ")",
+                        chunk.toArray(new String[0]), null, null, null)) {
+                    while (cursor.moveToNext()) {
+                        Quote quote = readQuote(cursor);
+                        quotes.put(quote.getId(), quote);
+                    }
+                }
+            }
+            mainHandler.post(() -> callback.onResult(quotes));
+        });
+    }
+
+    public void upsert(Collection<Quote> quotes) {
+        List<Quote> copy = new ArrayList<>(quotes);
+        for (Quote quote : copy) {
+            pageCache.invalidate(categoryKey(quote.getCategory()));
+        }
+        executor.execute(() -> {
+            SQLiteDatabase db = database.getWritableDatabase();
+            db.beginTransaction();
+            try {
+                for (Quote quote : copy) {
+                    db.insertWithOnConflict(QuoteDatabase.TABLE_QUOTES, null, toValues(quote),
+                            SQLiteDatabase.CONFLICT_REPLACE);
+                }
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+            notifyChanged(copy, Collections.emptyList());
+        });
+    }
+
+    // Null until the first page of the stream has been applied.
+    public void getSyncCursor(String stream, Callback<SyncCursor> callback) {
+        executor.execute(() -> {
+            SyncCursor cursor = readSyncCursor(database.getReadableDatabase(), stream);
+            mainHandler.post(() -> callback.onResult(cursor));
+        });
+    }
+
+    // Merges one page of a sync stream and moves that stream's cursor in a single transaction, so
+    // an interrupted sync resumes after the last page that fully landed. Reports which categories
+    // changed so open screens can decide whether to reload.
+    public void applyDelta(List<Quote> changed, List<String> deletedIds, String stream, SyncCursor cursor,
+                           Callback<Set<String>> callback) {
+        executor.execute(() -> {
+            Set<String> changedCategories = new HashSet<>();
+            SQLiteDatabase db = database.getWritableDatabase();
+            db.beginTransaction();
+            try {
+                for (String quoteId : deletedIds) {
+                    String category = readCategory(db, quoteId);
+                    if (category != null) {
+                        changedCategories.add(category);
+                    }
+                    db.delete(QuoteDatabase.TABLE_QUOTES, QuoteDatabase.COLUMN_ID + " = ?", new String[]{quoteId});
+                }
+                for (Quote quote : changed) {
+                    String previousCategory = readCategory(db, quote.getId());
+                    if (previousCategory != null) {
+                        changedCategories.add(previousCategory);
+                    }
+                    if (quote.getCategory() != null) {
+                        changedCategories.add(quote.getCategory());
+                    }
+                    db.insertWithOnConflict(QuoteDatabase.TABLE_QUOTES, null, toValues(quote),
+                            SQLiteDatabase.CONFLICT_REPLACE);
+                }
+
+                if (cursor != null) {
+                    ContentValues values = new ContentValues();
+                    values.put(QuoteDatabase.COLUMN_KEY, stream);
+                    values.put(QuoteDatabase.COLUMN_VALUE, cursor.encode());
+                    db.insertWithOnConflict(QuoteDatabase.TABLE_SYNC_STATE, null, values,
+                            SQLiteDatabase.CONFLICT_REPLACE);
+                }
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+            notifyChanged(changed, deletedIds);
+            mainHandler.post(() -> {
+                for (String category : changedCategories) {
+                    pageCache.invalidate(categoryKey(category));
+                }
+                callback.onResult(changedCategories);
+            });
+        });
+    }
+
+    private void notifyChanged(List<Quote> changed, List<String> deletedIds) {
+        for (ChangeListener listener : changeListeners) {
+            listener.onQuotesChanged(changed, deletedIds);
+        }
+    }
+
+    private static String categoryKey(String category) {
+        return "category|" + category + "|";
+    }
+
+    private static List<Quote> copyOf(List<Quote> page) {
+        List<Quote> copy = new ArrayList<>(page.size());
+        for (Quote quote : page) {
+            copy.add(new Quote(quote.getId(), quote.getText(), quote.getAuthor(), quote.getCategory(),
+                    quote.isLiked(), quote.getTimestamp(), quote.getUserId()));
+        }
+        return copy;
+    }
+
+    private SyncCursor readSyncCursor(SQLiteDatabase db, String stream) {
+        try (Cursor cursor = db.query(QuoteDatabase.TABLE_SYNC_STATE,
+                new String[]{QuoteDatabase.COLUMN_VALUE},
+                QuoteDatabase.COLUMN_KEY + " = ?", new String[]{stream},
+                null, null, null)) {
+            return cursor.moveToFirst() ? SyncCursor.decode(cursor.getString(0)) : null;
+        }
+    }
+
+    private String readCategory(SQLiteDatabase db, String quoteId) {
+        try (Cursor cursor = db.query(QuoteDatabase.TABLE_QUOTES,
+                new String[]{QuoteDatabase.COLUMN_CATEGORY},
+                QuoteDatabase.COLUMN_ID + " = ?", new String[]{quoteId},
+                null, null, null)) {
+            return cursor.moveToFirst() ? cursor.getString(0) : null;
+        }
+    }
+
+    private static ContentValues toValues(Quote quote) {
+        ContentValues values = new ContentValues();
+        values.put(QuoteDatabase.COLUMN_ID, quote.getId());
+        values.put(QuoteDatabase.COLUMN_TEXT, quote.getText());
+        values.put(QuoteDatabase.COLUMN_AUTHOR, quote.getAuthor());
+        values.put(QuoteDatabase.COLUMN_CATEGORY, quote.getCategory());
+        values.put(QuoteDatabase.COLUMN_USER_ID, quote.getUserId());
+        values.put(QuoteDatabase.COLUMN_TIMESTAMP, quote.getTimestamp());
+        return values;
+    }
+
+    private static Quote readQuote(Cursor cursor) {
+        return new Quote(
+                cursor.getString(cursor.getColumnIndexOrThrow(QuoteDatabase.COLUMN_ID)),
+                cursor.getString(cursor.getColumnIndexOrThrow(QuoteDatabase.COLUMN_TEXT)),
+                cursor.getString(cursor.getColumnIndexOrThrow(QuoteDatabase.COLUMN_AUTHOR)),
+                cursor.getString(cursor.getColumnIndexOrThrow(QuoteDatabase.COLUMN_CATEGORY)),
+                false,
+                cursor.getLong(cursor.getColumnIndexOrThrow(QuoteDatabase.COLUMN_TIMESTAMP)),
+                cursor.getString(cursor.getColumnIndexOrThrow(QuoteDatabase.COLUMN_USER_ID)));
+    }
+}
@@ -162,7 +162,7 @@ public class LoginActivity extends AppCompatActivity {
 
     private void updateLastLogin(String userId) {
         if (userId != null) {
-            mDatabase.child("users").child(userId).child("lastLogin")
+            mDatabase.child("profiles").child(userId).child("lastLogin")
                     .setValue(System.currentTimeMillis());
         }
     }
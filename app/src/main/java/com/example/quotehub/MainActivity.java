@@ -6,6 +6,8 @@ import android.widget.Toast;
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentManager;
+import androidx.fragment.app.FragmentTransaction;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseUser;
@@ -21,13 +23,21 @@ public class MainActivity extends AppCompatActivity {
     private FirebaseAuth mAuth;
     private DatabaseReference mDatabase;
     private String userId;
+    private static final String TAB_TAG_PREFIX = "tab_";
+    private static final String STATE_CURRENT_TAB = "current_tab";
+
     private int currentFragmentId = R.id.nav_home;
+    private LikedQuotesStore.Observer likesObserver;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_main);
 
+        if (savedInstanceState != null) {
+            currentFragmentId = savedInstanceState.getInt(STATE_CURRENT_TAB, R.id.nav_home);
+        }
+
         initializeFirebase();
         checkUserAuthentication();
         initializeViews();
@@ -43,11 +53,41 @@ public class MainActivity extends AppCompatActivity {
         if (currentUser != null) {
             userId = currentUser.getUid();
             initializeUserData();
+            keepLikedQuotesWarm();
+            QuoteSync.get(this).sync(null);
+            // Each backfill runs on at most one client at a time; the rest skip it.
+            QuoteShardMigration.runIfNeeded(mDatabase);
+            AuthorIndexMigration.runIfNeeded(mDatabase);
+            LikeWriteQueue.get(this).flushSoon(userId);
+            CustomQuoteBulkDelete.resume(this, mDatabase, userId, null);
         } else {
             navigateToLogin();
         }
     }
 
+    // Holds a reference on the shared store for the activity's lifetime so the tabs can answer
+    // from memory instead of querying likedQuotes again.
+    private void keepLikedQuotesWarm() {
+        likesObserver = new LikedQuotesStore.Observer() {
+            @Override
+            public void onLikedQuoteAdded(Quote quote) {
+            }
+
+            @Override
+            public void onLikedQuoteChanged(Quote quote) {
+            }
+
+            @Override
+            public void onLikedQuoteRemoved(Quote quote) {
+            }
+
+            @Override
+            public void onLikedQuotesError(String error) {
+            }
+        };
+        LikedQuotesStore.getInstance().subscribe(this, userId, likesObserver);
+    }
+
     private void navigateToLogin() {
         Intent intent = new Intent(MainActivity.this, LoginActivity.class);
         intent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
@@ -56,12 +96,12 @@ public class MainActivity extends AppCompatActivity {
     }
 
     private void initializeUserData() {
-        DatabaseReference userRef = mDatabase.child("users").child(userId);
-        userRef.addListenerForSingleValueEvent(new ValueEventListener() {
+        DatabaseReference profileRef = mDatabase.child("profiles").child(userId);
+        profileRef.addListenerForSingleValueEvent(new ValueEventListener() {
             @Override
             public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
                 if (!dataSnapshot.exists()) {
-                    createUserProfile();
+                    migrateLegacyProfile();
                 } else {
                     updateLastLogin();
                 }
@@ -74,13 +114,39 @@ public class MainActivity extends AppCompatActivity {
         });
     }
 
+    // Accounts created before profiles/{uid} existed keep their fields under users/{uid}.
+    // Only the createdAt leaf is read so the liked/custom/activity history is never downloaded.
+    private void migrateLegacyProfile() {
+        mDatabase.child("users").child(userId).child("createdAt")
+                .addListenerForSingleValueEvent(new ValueEventListener() {
+                    @Override
+                    public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
+                        Long createdAt = dataSnapshot.getValue(Long.class);
+                        if (createdAt != null) {
+                            FirebaseUser currentUser = mAuth.getCurrentUser();
+                            String email = currentUser != null ? currentUser.getEmail() : null;
+                            User user = new User(userId, email != null ? email : "", createdAt);
+                            user.setLastLogin(System.currentTimeMillis());
+                            mDatabase.child("profiles").child(userId).setValue(SnapshotMappers.toMap(user));
+                        } else {
+                            createUserProfile();
+                        }
+                    }
+
+                    @Override
+                    public void onCancelled(@NonNull DatabaseError databaseError) {
+                        createUserProfile();
+                    }
+                });
+    }
+
     private void createUserProfile() {
         FirebaseUser currentUser = mAuth.getCurrentUser();
         if (currentUser != null) {
             String email = currentUser.getEmail();
             User user = new User(userId, email != null ? email : "");
 
-            mDatabase.child("users").child(userId).setValue(user)
+            mDatabase.child("profiles").child(userId).setValue(SnapshotMappers.toMap(user))
                     .addOnSuccessListener(aVoid -> {
                         Toast.makeText(MainActivity.this, "Welcome to QuoteHub!", Toast.LENGTH_SHORT).show();
                     })
@@ -91,14 +157,14 @@ public class MainActivity extends AppCompatActivity {
     }
 
     private void updateLastLogin() {
-        mDatabase.child("users").child(userId).child("lastLogin")
+        mDatabase.child("profiles").child(userId).child("lastLogin")
                 .setValue(System.currentTimeMillis());
     }
 
     private void initializeViews() {
         bottomNavigationView = findViewById(R.id.bottomNavigation);
         setupBottomNavigation();
-        loadFragment(new HomeFragment());
+        showTab(currentFragmentId);
     }
 
     private void setupBottomNavigation() {
@@ -109,38 +175,63 @@ public class MainActivity extends AppCompatActivity {
                 return true;
             }
 
-            Fragment fragment = null;
-
-            if (itemId == R.id.nav_home) {
-                fragment = new HomeFragment();
-            } else if (itemId == R.id.nav_categories) {
-                fragment = new CategoriesFragment();
-            } else if (itemId == R.id.nav_create) {
-                fragment = new CreateFragment();
-            } else if (itemId == R.id.nav_liked) {
-                fragment = new LikedFragment();
-            } else if (itemId == R.id.nav_profile) {
-                fragment = new ProfileFragment();
-            }
+            return showTab(itemId);
+        });
+    }
 
-            if (fragment != null) {
-                currentFragmentId = itemId;
-                return loadFragment(fragment);
+    // For fragments that send the user to another tab; goes through the bottom bar so its
+    // selection and the shown fragment stay in step.
+    public void selectTab(int itemId) {
+        bottomNavigationView.setSelectedItemId(itemId);
+    }
+
+    // Each tab's fragment is created once and kept; switching tabs only hides the current one and
+    // shows the next, so loaded state and views survive. Hidden fragments pause their Firebase
+    // listeners in onHiddenChanged().
+    private boolean showTab(int itemId) {
+        FragmentManager fragmentManager = getSupportFragmentManager();
+        String tag = tabTag(itemId);
+        Fragment target = fragmentManager.findFragmentByTag(tag);
+        if (target == null) {
+            target = createTabFragment(itemId);
+            if (target == null) return false;
+        }
+
+        FragmentTransaction transaction = fragmentManager.beginTransaction().setReorderingAllowed(true);
+        for (Fragment fragment : fragmentManager.getFragments()) {
+            if (fragment != target && fragment.getTag() != null && fragment.getTag().startsWith(TAB_TAG_PREFIX)
+                    && !fragment.isHidden()) {
+                transaction.hide(fragment);
             }
+        }
+        if (target.isAdded()) {
+            transaction.show(target);
+        } else {
+            transaction.add(R.id.fragmentContainer, target, tag);
+        }
+        transaction.commit();
 
-            return false;
-        });
+        currentFragmentId = itemId;
+        return true;
     }
 
-    private boolean loadFragment(Fragment fragment) {
-        if (fragment != null) {
-            getSupportFragmentManager()
-                    .beginTransaction()
-                    .replace(R.id.fragmentContainer, fragment)
-                    .commit();
-            return true;
+    private Fragment createTabFragment(int itemId) {
+        if (itemId == R.id.nav_home) {
+            return new HomeFragment();
+        } else if (itemId == R.id.nav_categories) {
+            return new CategoriesFragment();
+        } else if (itemId == R.id.nav_create) {
+            return new CreateFragment();
+        } else if (itemId == R.id.nav_liked) {
+            return new LikedFragment();
+        } else if (itemId == R.id.nav_profile) {
+            return new ProfileFragment();
         }
-        return false;
+        return null;
+    }
+
+    private static String tabTag(int itemId) {
+        return TAB_TAG_PREFIX + itemId;
     }
 
     public String getUserId() {
@@ -161,38 +252,15 @@ public class MainActivity extends AppCompatActivity {
             return;
         }
 
-        DatabaseReference quoteRef = mDatabase.child("users")
-                .child(userId)
-                .child("likedQuotes")
-                .child(quote.getId());
-
         quote.setLiked(true);
-        quote.setTimestamp(System.currentTimeMillis());
-
-        quoteRef.setValue(quote)
-                .addOnSuccessListener(aVoid -> {
-                    Toast.makeText(MainActivity.this, "Quote added to favorites", Toast.LENGTH_SHORT).show();
-                })
-                .addOnFailureListener(e -> {
-                    Toast.makeText(MainActivity.this, "Failed to add quote", Toast.LENGTH_SHORT).show();
-                });
+        LikeWriteQueue.get(this).setLiked(userId, quote.getId(), true);
     }
 
     public void unlikeQuote(Quote quote) {
         if (userId == null) return;
 
-        DatabaseReference quoteRef = mDatabase.child("users")
-                .child(userId)
-                .child("likedQuotes")
-                .child(quote.getId());
-
-        quoteRef.removeValue()
-                .addOnSuccessListener(aVoid -> {
-                    Toast.makeText(MainActivity.this, "Quote removed from favorites", Toast.LENGTH_SHORT).show();
-                })
-                .addOnFailureListener(e -> {
-                    Toast.makeText(MainActivity.this, "Failed to remove quote", Toast.LENGTH_SHORT).show();
-                });
+        quote.setLiked(false);
+        LikeWriteQueue.get(this).setLiked(userId, quote.getId(), false);
     }
 
     public void addQuoteToDatabase(String text, String author, String category) {
@@ -201,14 +269,14 @@ public class MainActivity extends AppCompatActivity {
             return;
         }
 
-        String quoteId = mDatabase.child("quotes").push().getKey();
+        QuoteWriteBatch batch = new QuoteWriteBatch(mDatabase);
+        String quoteId = batch.newQuoteId();
         if (quoteId != null) {
             // FIXED: Include userId when creating quote
             Quote quote = new Quote(quoteId, text, author, category, false, System.currentTimeMillis(), userId);
 
-            mDatabase.child("quotes")
-                    .child(quoteId)
-                    .setValue(quote)
+            batch.createQuote(quote, userId)
+                    .commit()
                     .addOnSuccessListener(aVoid -> {
                         Toast.makeText(MainActivity.this, "Quote created successfully", Toast.LENGTH_SHORT).show();
                     })
@@ -219,8 +287,7 @@ public class MainActivity extends AppCompatActivity {
     }
 
     public void loadQuotesByCategory(String category, QuoteLoadCallback callback) {
-        DatabaseReference quotesRef = mDatabase.child("quotes");
-        quotesRef.orderByChild("category").equalTo(category)
+        mDatabase.child("quotesByCategory").child(category)
                 .addListenerForSingleValueEvent(new ValueEventListener() {
                     @Override
                     public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
@@ -234,53 +301,11 @@ public class MainActivity extends AppCompatActivity {
                 });
     }
 
-    public void loadAllQuotes(QuoteLoadCallback callback) {
-        DatabaseReference quotesRef = mDatabase.child("quotes");
-        quotesRef.addListenerForSingleValueEvent(new ValueEventListener() {
-            @Override
-            public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
-                callback.onQuotesLoaded(dataSnapshot);
-            }
-
-            @Override
-            public void onCancelled(@NonNull DatabaseError databaseError) {
-                callback.onError(databaseError.getMessage());
-            }
-        });
-    }
-
-    public void checkIfQuoteLiked(String quoteId, QuoteLikeCheckCallback callback) {
-        if (userId == null) {
-            callback.onResult(false);
-            return;
-        }
-
-        mDatabase.child("users")
-                .child(userId)
-                .child("likedQuotes")
-                .child(quoteId)
-                .addListenerForSingleValueEvent(new ValueEventListener() {
-                    @Override
-                    public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
-                        callback.onResult(dataSnapshot.exists());
-                    }
-
-                    @Override
-                    public void onCancelled(@NonNull DatabaseError databaseError) {
-                        callback.onResult(false);
-                    }
-                });
-    }
-
     public interface QuoteLoadCallback {
         void onQuotesLoaded(DataSnapshot dataSnapshot);
         void onError(String error);
     }
 
-    public interface QuoteLikeCheckCallback {
-        void onResult(boolean isLiked);
-    }
-
     @Override
     protected void onStart() {
         super.onStart();
@@ -290,6 +315,21 @@ public class MainActivity extends AppCompatActivity {
         }
     }
 
+    @Override
+    protected void onSaveInstanceState(@NonNull Bundle outState) {
+        super.onSaveInstanceState(outState);
+        outState.putInt(STATE_CURRENT_TAB, currentFragmentId);
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (likesObserver != null) {
+            LikedQuotesStore.getInstance().unsubscribe(likesObserver);
+            likesObserver = null;
+        }
+    }
+
     @Override
     public void onBackPressed() {
         if (currentFragmentId != R.id.nav_home) {
@@ -0,0 +1,198 @@
+package com.example.quotehub;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+// Near-duplicate lookup for quote text. Text is normalized with QuoteIds.normalize(), cut into
+// overlapping 4-character shingles, and summarized by a MinHash signature whose agreement rate
+// estimates Jaccard similarity. Signatures are split into BANDS bands of ROWS rows and each band
+// is hashed into a bucket (LSH), so a lookup only compares against quotes that share a bucket.
+// With 16 x 4, pairs at 0.8 similarity share a bucket with >99.9% probability, pairs at 0.3
+// about 12% of the time. All methods are synchronized.
+public class MinHashIndex {
+
+    public static final class Match {
+        public final Quote quote;
+        public final float similarity;
+
+        Match(Quote quote, float similarity) {
+            this.quote = quote;
+            this.similarity = similarity;
+        }
+    }
+
+    private static final int SHINGLE_LENGTH = 4;
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+    private static final int SIGNATURE_SIZE = BANDS * ROWS;
+    // Fixed seed so a signature means the same thing in every process.
+    private static final long[] HASH_A = new long[SIGNATURE_SIZE];
+    private static final long[] HASH_B = new long[SIGNATURE_SIZE];
+
+    static {
+        Random random = new Random(0x5155_4F54_4548_5542L);
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            HASH_A[i] = random.nextLong() | 1;
+            HASH_B[i] = random.nextLong();
+        }
+    }
+
+    private final Map<Long, int[]> buckets = new HashMap<>();
+    private final Map<String, Integer> docByQuoteId = new HashMap<>();
+    private Quote[] quotes = new Quote[64];
+    private int[] signatures = new int[64 * SIGNATURE_SIZE];
+    private int docCount = 0;
+    private int liveCount = 0;
+
+    public synchronized void put(Quote quote) {
+        if (quote == null || quote.getId() == null) return;
+        remove(quote.getId());
+
+        int[] signature = signature(quote.getText());
+        if (signature == null) return;
+        add(quote, signature);
+    }
+
+    public synchronized void putAll(List<Quote> batch) {
+        for (Quote quote : batch) {
+            put(quote);
+        }
+    }
+
+    public synchronized void remove(String quoteId) {
+        Integer doc = docByQuoteId.remove(quoteId);
+        if (doc == null) return;
+
+        quotes[doc] = null;
+        liveCount--;
+        if (docCount - liveCount > Math.max(liveCount, 1024)) {
+            compact();
+        }
+    }
+
+    public synchronized int size() {
+        return liveCount;
+    }
+
+    // Indexed quotes whose estimated similarity to text is at least minSimilarity, most similar
+    // first.
+    public synchronized List<Match> findSimilar(String text, float minSimilarity, int limit) {
+        int[] signature = signature(text);
+        if (signature == null || limit <= 0) return Collections.emptyList();
+
+        Set<Integer> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            int[] docs = buckets.get(bandKey(signature, band));
+            if (docs == null) continue;
+            for (int i = 1; i <= docs[0]; i++) {
+                candidates.add(docs[i]);
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (int doc : candidates) {
+            if (quotes[doc] == null) continue;
+
+            int agree = 0;
+            int offset = doc * SIGNATURE_SIZE;
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                if (signatures[offset + i] == signature[i]) {
+                    agree++;
+                }
+            }
+            float similarity = (float) agree / SIGNATURE_SIZE;
+            if (similarity >= minSimilarity) {
+                Quote quote = quotes[doc];
+                matches.add(new Match(new Quote(quote.getId(), quote.getText(), quote.getAuthor(),
+                        quote.getCategory(), false, quote.getTimestamp(), quote.getUserId()), similarity));
+            }
+        }
+
+        Collections.sort(matches, (a, b) -> Float.compare(b.similarity, a.similarity));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    private void add(Quote quote, int[] signature) {
+        int doc = docCount++;
+        if (doc == quotes.length) {
+            quotes = Arrays.copyOf(quotes, doc * 2);
+            signatures = Arrays.copyOf(signatures, doc * 2 * SIGNATURE_SIZE);
+        }
+        quotes[doc] = quote;
+        System.arraycopy(signature, 0, signatures, doc * SIGNATURE_SIZE, SIGNATURE_SIZE);
+        docByQuoteId.put(quote.getId(), doc);
+        liveCount++;
+
+        // Each bucket is an int[] whose first slot holds the number of docs that follow.
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(signature, band);
+            int[] docs = buckets.get(key);
+            if (docs == null) {
+                docs = new int[4];
+            } else if (docs[0] + 1 == docs.length) {
+                docs = Arrays.copyOf(docs, docs.length * 2);
+            }
+            docs[++docs[0]] = doc;
+            buckets.put(key, docs);
+        }
+    }
+
+    // Drops dead documents from the buckets by re-adding the live ones under new numbers.
+    private void compact() {
+        Quote[] oldQuotes = quotes;
+        int[] oldSignatures = signatures;
+        int oldCount = docCount;
+
+        buckets.clear();
+        docByQuoteId.clear();
+        quotes = new Quote[Math.max(liveCount, 64)];
+        signatures = new int[quotes.length * SIGNATURE_SIZE];
+        docCount = 0;
+        liveCount = 0;
+        for (int doc = 0; doc < oldCount; doc++) {
+            if (oldQuotes[doc] != null) {
+                add(oldQuotes[doc], Arrays.copyOfRange(oldSignatures,
+                        doc * SIGNATURE_SIZE, (doc + 1) * SIGNATURE_SIZE));
+            }
+        }
+    }
+
+    // Null when the text has no letters or digits to compare.
+    static int[] signature(String text) {
+        String normalized = QuoteIds.normalize(text);
+        if (normalized.isEmpty()) return null;
+
+        int[] signature = new int[SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(normalized.length() - SHINGLE_LENGTH + 1, 1);
+        for (int start = 0; start < shingles; start++) {
+            int end = Math.min(start + SHINGLE_LENGTH, normalized.length());
+            long shingle = 0;
+            for (int i = start; i < end; i++) {
+                shingle = shingle * 31 + normalized.charAt(i);
+            }
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                int hash = (int) ((HASH_A[i] * shingle + HASH_B[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[i];
+        }
+        return key;
+    }
+}
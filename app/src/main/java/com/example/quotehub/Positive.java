@@ -1,20 +0,0 @@
-package com.example.quotehub;
-
-import android.os.Bundle;
-import android.widget.ImageView;
-
-import androidx.appcompat.app.AppCompatActivity;
-
-public class Positive extends AppCompatActivity {
-    @Override
-    protected void onCreate(Bundle savedInstanceState) {
-        super.onCreate(savedInstanceState);
-        setContentView(R.layout.page_positive);
-
-        ImageView backButton = findViewById(R.id.backButton);
-
-        backButton.setOnClickListener(v -> {
-            finish();
-        });
-    }
-}
@@ -20,6 +20,7 @@ import com.google.firebase.database.DataSnapshot;
 import com.google.firebase.database.DatabaseError;
 import com.google.firebase.database.DatabaseReference;
 import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.Query;
 import com.google.firebase.database.ValueEventListener;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -33,8 +34,20 @@ public class ProfileFragment extends Fragment {
     private RecyclerView activityRecyclerView;
     private Button logoutButton;
     private Button clearAllQuotesButton;
+    private CharSequence clearAllLabel;
     private ActivityAdapter activityAdapter;
     private List<ActivityItem> activityList;
+    private List<ActivityItem> statItems;
+    private List<ActivityItem> logItems;
+    private ListenerRegistry listeners;
+    private SnapshotPipeline pipeline;
+    private ListenerRegistry.Registration statsRegistration;
+    private ListenerRegistry.Registration todayLikesRegistration;
+    private ListenerRegistry.Registration logsRegistration;
+    private String todayLikesDay;
+    private long totalLikes;
+    private long todayLikes;
+    private long customQuoteCount;
     private FirebaseAuth mAuth;
     private DatabaseReference mDatabase;
     private String userId;
@@ -49,12 +62,25 @@ public class ProfileFragment extends Fragment {
         initializeViews(view);
         setupRecyclerView();
         loadUserProfile();
-        loadUserActivity();
         setupButtons();
 
         return view;
     }
 
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+        listeners = new ListenerRegistry(getViewLifecycleOwner());
+        pipeline = new SnapshotPipeline(getViewLifecycleOwner());
+        clearAllLabel = clearAllQuotesButton.getText();
+        if (CustomQuoteBulkDelete.attach(bulkDeleteListener)) {
+            clearAllQuotesButton.setEnabled(false);
+        }
+        if (!isHidden()) {
+            loadUserActivity();
+        }
+    }
+
     private void initializeFirebase() {
         mAuth = FirebaseAuth.getInstance();
         mDatabase = FirebaseDatabase.getInstance().getReference();
@@ -68,6 +94,8 @@ public class ProfileFragment extends Fragment {
         logoutButton = view.findViewById(R.id.logoutButton);
         clearAllQuotesButton = view.findViewById(R.id.clearAllQuotesButton);
         activityList = new ArrayList<>();
+        statItems = new ArrayList<>();
+        logItems = new ArrayList<>();
     }
 
     private void setupRecyclerView() {
@@ -107,31 +135,31 @@ public class ProfileFragment extends Fragment {
     private void loadUserActivity() {
         if (userId == null) return;
 
-        activityList.clear();
+        DatabaseReference userRef = mDatabase.child("users").child(userId);
+        if (statsRegistration == null) {
+            statsRegistration = listenToStats(userRef);
+        }
+        listenToTodayLikes(userRef);
 
-        DatabaseReference likesRef = mDatabase.child("users").child(userId).child("likedQuotes");
-        likesRef.addValueEventListener(new ValueEventListener() {
+        updateStatItems();
+        loadActivityLogs();
+    }
+
+    private ListenerRegistry.Registration listenToStats(DatabaseReference userRef) {
+        return listeners.addValueEventListener(userRef.child("stats"), new ValueEventListener() {
             @Override
             public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
-                int totalLiked = (int) dataSnapshot.getChildrenCount();
-
-                activityList.clear();
-                activityList.add(new ActivityItem("Total Quotes Liked", String.valueOf(totalLiked), "❤️"));
-
-                long todayStart = getTodayStartTimestamp();
-                int todayCount = 0;
-
-                for (DataSnapshot snapshot : dataSnapshot.getChildren()) {
-                    Long timestamp = snapshot.child("timestamp").getValue(Long.class);
-                    if (timestamp != null && timestamp >= todayStart) {
-                        todayCount++;
-                    }
+                if (UserStats.needsReconcile(dataSnapshot)) {
+                    // The rebuilt counters come back through this listener.
+                    UserStats.reconcile(mDatabase, userId);
+                    return;
                 }
 
-                activityList.add(new ActivityItem("Quotes Liked Today", String.valueOf(todayCount), "📅"));
-                activityList.add(new ActivityItem("Member Since", formatDate(getMemberSinceDate()), "🗓️"));
-
-                loadActivityLogs();
+                Long likes = dataSnapshot.child("totalLikes").getValue(Long.class);
+                Long created = dataSnapshot.child("customQuotes").getValue(Long.class);
+                totalLikes = likes != null ? likes : 0;
+                customQuoteCount = created != null ? created : 0;
+                updateStatItems();
             }
 
             @Override
@@ -141,26 +169,53 @@ public class ProfileFragment extends Fragment {
         });
     }
 
+    // likesByDay is bucketed per day, so once the date has moved on (the screen stayed up past
+    // midnight) the listener is swapped for today's bucket the next time the tab is resumed or
+    // shown again.
+    private void listenToTodayLikes(DatabaseReference userRef) {
+        String day = UserStats.dayKey(System.currentTimeMillis());
+        if (todayLikesRegistration != null && day.equals(todayLikesDay)) return;
+
+        listeners.remove(todayLikesRegistration);
+        todayLikesDay = day;
+        todayLikes = 0;
+        DatabaseReference todayLikesRef = userRef.child("likesByDay").child(day);
+        todayLikesRegistration = listeners.addValueEventListener(todayLikesRef, new ValueEventListener() {
+            @Override
+            public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
+                Long today = dataSnapshot.getValue(Long.class);
+                todayLikes = today != null ? Math.max(today, 0) : 0;
+                updateStatItems();
+            }
+
+            @Override
+            public void onCancelled(@NonNull DatabaseError databaseError) {
+            }
+        });
+    }
+
+    private void updateStatItems() {
+        statItems.clear();
+        statItems.add(new ActivityItem("Total Quotes Liked", String.valueOf(totalLikes), "❤️"));
+        statItems.add(new ActivityItem("Quotes Liked Today", String.valueOf(todayLikes), "📅"));
+        statItems.add(new ActivityItem("Quotes Created", String.valueOf(customQuoteCount), "✍️"));
+        statItems.add(new ActivityItem("Member Since", formatDate(getMemberSinceDate()), "🗓️"));
+        renderActivity();
+    }
+
     private void loadActivityLogs() {
-        if (userId == null) return;
+        if (userId == null || logsRegistration != null) return;
 
-        DatabaseReference activityRef = mDatabase.child("users").child(userId).child("activityLog");
-        activityRef.orderByChild("timestamp").limitToLast(5).addValueEventListener(new ValueEventListener() {
+        Query recentLogs = mDatabase.child("users").child(userId).child("activityLog")
+                .orderByChild("timestamp").limitToLast(5);
+        logsRegistration = listeners.addValueEventListener(recentLogs, new ValueEventListener() {
             @Override
             public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
-                List<ActivityItem> logItems = new ArrayList<>();
-
-                for (DataSnapshot snapshot : dataSnapshot.getChildren()) {
-                    ActivityLog log = snapshot.getValue(ActivityLog.class);
-                    if (log != null) {
-                        String timeAgo = getTimeAgo(log.getTimestamp());
-                        logItems.add(new ActivityItem(log.getAction(), log.getDescription() + " - " + timeAgo, "✨"));
-                    }
-                }
-
-                Collections.reverse(logItems);
-                activityList.addAll(logItems);
-                activityAdapter.notifyDataSetChanged();
+                pipeline.submit("recentActivityLogs", () -> parseActivityLogs(dataSnapshot), items -> {
+                    logItems.clear();
+                    logItems.addAll(items);
+                    renderActivity();
+                });
             }
 
             @Override
@@ -170,7 +225,27 @@ public class ProfileFragment extends Fragment {
         });
     }
 
-    private String getTimeAgo(long timestamp) {
+    private static List<ActivityItem> parseActivityLogs(DataSnapshot dataSnapshot) {
+        List<ActivityItem> items = new ArrayList<>();
+        for (DataSnapshot snapshot : dataSnapshot.getChildren()) {
+            ActivityLog log = SnapshotMappers.toActivityLog(snapshot);
+            if (log != null) {
+                String timeAgo = getTimeAgo(log.getTimestamp());
+                items.add(new ActivityItem(log.getAction(), log.getDescription() + " - " + timeAgo, "✨"));
+            }
+        }
+        Collections.reverse(items);
+        return items;
+    }
+
+    private void renderActivity() {
+        activityList.clear();
+        activityList.addAll(statItems);
+        activityList.addAll(logItems);
+        activityAdapter.notifyDataSetChanged();
+    }
+
+    private static String getTimeAgo(long timestamp) {
         long now = System.currentTimeMillis();
         long diff = now - timestamp;
 
@@ -190,11 +265,6 @@ public class ProfileFragment extends Fragment {
         }
     }
 
-    private long getTodayStartTimestamp() {
-        long now = System.currentTimeMillis();
-        return now - (now % (24 * 60 * 60 * 1000));
-    }
-
     private long getMemberSinceDate() {
         FirebaseUser currentUser = mAuth.getCurrentUser();
         if (currentUser != null && currentUser.getMetadata() != null) {
@@ -225,35 +295,35 @@ public class ProfileFragment extends Fragment {
     private void clearAllCustomQuotes() {
         if (userId == null) return;
 
-        DatabaseReference customQuotesRef = mDatabase.child("users").child(userId).child("customQuotes");
-        customQuotesRef.addListenerForSingleValueEvent(new ValueEventListener() {
-            @Override
-            public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
-                final int[] count = {0};
-                for (DataSnapshot quoteSnapshot : dataSnapshot.getChildren()) {
-                    String quoteId = quoteSnapshot.getKey();
-                    if (quoteId != null) {
-                        mDatabase.child("quotes").child(quoteId).removeValue();
-                        count[0]++;
-                    }
-                }
+        clearAllQuotesButton.setEnabled(false);
+        CustomQuoteBulkDelete.start(requireContext(), mDatabase, userId, bulkDeleteListener);
+    }
 
-                customQuotesRef.removeValue()
-                        .addOnSuccessListener(aVoid -> {
-                            mDatabase.child("users").child(userId).child("activityLog").removeValue();
-                            Toast.makeText(getContext(), " Cleared " + count[0] + " custom quotes", Toast.LENGTH_SHORT).show();
-                            loadUserActivity();
-                        })
-                        .addOnFailureListener(e -> {
-                            Toast.makeText(getContext(), "Failed to clear quotes", Toast.LENGTH_SHORT).show();
-                        });
-            }
+    private final CustomQuoteBulkDelete.Listener bulkDeleteListener = new CustomQuoteBulkDelete.Listener() {
+        @Override
+        public void onProgress(long deleted, long total) {
+            if (clearAllQuotesButton == null) return;
+            clearAllQuotesButton.setEnabled(false);
+            clearAllQuotesButton.setText("Clearing " + deleted + "/" + total);
+        }
 
-            @Override
-            public void onCancelled(@NonNull DatabaseError databaseError) {
-                Toast.makeText(getContext(), "Failed to load quotes", Toast.LENGTH_SHORT).show();
-            }
-        });
+        @Override
+        public void onComplete(long deleted) {
+            resetClearAllButton();
+            Toast.makeText(getContext(), " Cleared " + deleted + " custom quotes", Toast.LENGTH_SHORT).show();
+        }
+
+        @Override
+        public void onError(String error) {
+            resetClearAllButton();
+            Toast.makeText(getContext(), "Failed to clear quotes", Toast.LENGTH_SHORT).show();
+        }
+    };
+
+    private void resetClearAllButton() {
+        if (clearAllQuotesButton == null) return;
+        clearAllQuotesButton.setEnabled(true);
+        clearAllQuotesButton.setText(clearAllLabel);
     }
 
     private void showLogoutDialog() {
@@ -282,9 +352,33 @@ public class ProfileFragment extends Fragment {
     @Override
     public void onResume() {
         super.onResume();
-        if (userId != null) {
+        if (userId != null && !isHidden()) {
             loadUserProfile();
             loadUserActivity();
         }
     }
-}
\ No newline at end of file
+
+    // MainActivity keeps this tab alive while hidden; stop listening until it is shown again.
+    @Override
+    public void onHiddenChanged(boolean hidden) {
+        super.onHiddenChanged(hidden);
+        if (listeners == null) return;
+
+        if (hidden) {
+            listeners.removeAll();
+            statsRegistration = null;
+            todayLikesRegistration = null;
+            logsRegistration = null;
+            pipeline.cancelAll();
+        } else if (userId != null) {
+            loadUserProfile();
+            loadUserActivity();
+        }
+    }
+
+    @Override
+    public void onDestroyView() {
+        super.onDestroyView();
+        CustomQuoteBulkDelete.detach(bulkDeleteListener);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.quotehub;
+
+import android.os.SystemClock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Read-through cache for query results, confined to the main thread. Identical requests made while
+// a load is running share that load, entries expire after a TTL, and the least recently used entry
+// is evicted past maxEntries.
+public class QueryCache<V> {
+
+    public interface Loader<V> {
+        void load(LocalQuoteStore.Callback<V> done);
+    }
+
+    // Split out so expiry can be tested without the Android clock.
+    interface Clock {
+        long now();
+    }
+
+    private final long ttlMs;
+    private final int maxEntries;
+    private final Clock clock;
+    private final LinkedHashMap<String, Entry<V>> entries;
+    private final Map<String, List<LocalQuoteStore.Callback<V>>> inFlight = new HashMap<>();
+
+    private int hitCount;
+    private int missCount;
+    private int coalescedCount;
+
+    public QueryCache(long ttlMs, int maxEntries) {
+        this(ttlMs, maxEntries, SystemClock::elapsedRealtime);
+    }
+
+    QueryCache(long ttlMs, int maxEntries, Clock clock) {
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<String, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > QueryCache.this.maxEntries;
+            }
+        };
+    }
+
+    public void get(String key, Loader<V> loader, LocalQuoteStore.Callback<V> callback) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && clock.now() - entry.loadedAt < ttlMs) {
+            hitCount++;
+            callback.onResult(entry.value);
+            return;
+        }
+        entries.remove(key);
+
+        List<LocalQuoteStore.Callback<V>> waiting = inFlight.get(key);
+        if (waiting != null) {
+            coalescedCount++;
+            waiting.add(callback);
+            return;
+        }
+
+        missCount++;
+        List<LocalQuoteStore.Callback<V>> callbacks = new ArrayList<>();
+        callbacks.add(callback);
+        inFlight.put(key, callbacks);
+
+        loader.load(value -> {
+            // invalidate() takes a load out of inFlight when its key matches, so a load that is
+            // still there is unaffected by every invalidation since it started.
+            if (inFlight.get(key) == callbacks) {
+                inFlight.remove(key);
+                entries.put(key, new Entry<>(value, clock.now()));
+            }
+            for (LocalQuoteStore.Callback<V> waiter : callbacks) {
+                waiter.onResult(value);
+            }
+        });
+    }
+
+    // Drops entries whose key starts with prefix. Matching loads already running still answer
+    // their callers but are not cached, and later requests start a fresh load instead of joining
+    // them; loads for other keys are left alone.
+    public void invalidate(String prefix) {
+        removeByPrefix(entries.keySet().iterator(), prefix);
+        removeByPrefix(inFlight.keySet().iterator(), prefix);
+    }
+
+    public void invalidateAll() {
+        invalidate("");
+    }
+
+    private static void removeByPrefix(Iterator<String> keys, String prefix) {
+        while (keys.hasNext()) {
+            if (keys.next().startsWith(prefix)) {
+                keys.remove();
+            }
+        }
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    public int getMissCount() {
+        return missCount;
+    }
+
+    public int getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    private static class Entry<V> {
+        final V value;
+        final long loadedAt;
+
+        Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
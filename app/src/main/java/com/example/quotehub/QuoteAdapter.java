@@ -10,14 +10,46 @@ import android.widget.ImageButton;
 import android.widget.TextView;
 import android.widget.Toast;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
-public class QuoteAdapter extends RecyclerView.Adapter<QuoteAdapter.QuoteViewHolder> {
+public class QuoteAdapter extends ListAdapter<Quote, QuoteAdapter.QuoteViewHolder> {
+
+    static final String PAYLOAD_LIKE = "payload_like";
+
+    static final DiffUtil.ItemCallback<Quote> DIFF_CALLBACK = new DiffUtil.ItemCallback<Quote>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull Quote oldItem, @NonNull Quote newItem) {
+            return Objects.equals(oldItem.getId(), newItem.getId());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull Quote oldItem, @NonNull Quote newItem) {
+            return oldItem.isLiked() == newItem.isLiked() && sameDisplayedText(oldItem, newItem);
+        }
+
+        @Nullable
+        @Override
+        public Object getChangePayload(@NonNull Quote oldItem, @NonNull Quote newItem) {
+            if (oldItem.isLiked() != newItem.isLiked() && sameDisplayedText(oldItem, newItem)) {
+                return PAYLOAD_LIKE;
+            }
+            return null;
+        }
+
+        private boolean sameDisplayedText(Quote oldItem, Quote newItem) {
+            return Objects.equals(oldItem.getText(), newItem.getText())
+                    && Objects.equals(oldItem.getAuthor(), newItem.getAuthor())
+                    && Objects.equals(oldItem.getCategory(), newItem.getCategory());
+        }
+    };
 
     private Context context;
-    private List<Quote> quotes;
     private OnQuoteInteractionListener interactionListener;
     private OnQuoteActionListener actionListener;
 
@@ -31,19 +63,23 @@ public class QuoteAdapter extends RecyclerView.Adapter<QuoteAdapter.QuoteViewHol
     }
 
     public QuoteAdapter(OnQuoteInteractionListener listener) {
-        this.quotes = new ArrayList<>();
+        super(DIFF_CALLBACK);
         this.interactionListener = listener;
+        setHasStableIds(true);
     }
 
     public QuoteAdapter(Context context, List<Quote> quotes, OnQuoteActionListener actionListener) {
+        super(DIFF_CALLBACK);
         this.context = context;
-        this.quotes = quotes != null ? quotes : new ArrayList<>();
         this.actionListener = actionListener;
+        setHasStableIds(true);
+        setQuotes(quotes);
     }
 
     public QuoteAdapter(Context context) {
+        super(DIFF_CALLBACK);
         this.context = context;
-        this.quotes = new ArrayList<>();
+        setHasStableIds(true);
     }
 
     @NonNull
@@ -59,40 +95,74 @@ public class QuoteAdapter extends RecyclerView.Adapter<QuoteAdapter.QuoteViewHol
 
     @Override
     public void onBindViewHolder(@NonNull QuoteViewHolder holder, int position) {
-        Quote quote = quotes.get(position);
-        holder.bind(quote, position);
+        holder.bind(getItem(position));
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull QuoteViewHolder holder, int position, @NonNull List<Object> payloads) {
+        if (payloads.isEmpty() || !payloads.contains(PAYLOAD_LIKE)) {
+            super.onBindViewHolder(holder, position, payloads);
+            return;
+        }
+        holder.updateLikeButton(getItem(position).isLiked());
     }
 
     @Override
-    public int getItemCount() {
-        return quotes.size();
+    public long getItemId(int position) {
+        return stableIdOf(getItem(position).getId());
+    }
+
+    // 64-bit FNV-1a of the quote id: stable across submits without keeping a map of every id the
+    // adapter has seen, and wide enough that two ids in one list practically never collide.
+    static long stableIdOf(String quoteId) {
+        long hash = 0xcbf29ce484222325L;
+        if (quoteId == null) return hash;
+        for (int i = 0; i < quoteId.length(); i++) {
+            hash ^= quoteId.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
     }
 
+    // Rows are submitted as copies so callers can keep mutating their own Quote objects
+    // (e.g. setLiked) and the differ still sees the old state to compare against.
     public void setQuotes(List<Quote> quotes) {
-        this.quotes = quotes != null ? quotes : new ArrayList<>();
-        notifyDataSetChanged();
+        List<Quote> snapshot = new ArrayList<>();
+        if (quotes != null) {
+            for (Quote quote : quotes) {
+                snapshot.add(copyOf(quote));
+            }
+        }
+        submitList(snapshot);
     }
 
     public void addQuote(Quote quote) {
-        quotes.add(quote);
-        notifyItemInserted(quotes.size() - 1);
+        List<Quote> updated = new ArrayList<>(getCurrentList());
+        updated.add(copyOf(quote));
+        submitList(updated);
     }
 
     public void removeQuote(int position) {
-        if (position >= 0 && position < quotes.size()) {
-            quotes.remove(position);
-            notifyItemRemoved(position);
-            notifyItemRangeChanged(position, quotes.size());
+        if (position >= 0 && position < getItemCount()) {
+            List<Quote> updated = new ArrayList<>(getCurrentList());
+            updated.remove(position);
+            submitList(updated);
         }
     }
 
     public void updateQuote(int position, Quote quote) {
-        if (position >= 0 && position < quotes.size()) {
-            quotes.set(position, quote);
-            notifyItemChanged(position);
+        if (position >= 0 && position < getItemCount()) {
+            List<Quote> updated = new ArrayList<>(getCurrentList());
+            updated.set(position, copyOf(quote));
+            submitList(updated);
         }
     }
 
+    private static Quote copyOf(Quote quote) {
+        return new Quote(quote.getId(), quote.getText(), quote.getAuthor(), quote.getCategory(),
+                quote.isLiked(), quote.getTimestamp(), quote.getUserId());
+    }
+
     class QuoteViewHolder extends RecyclerView.ViewHolder {
         TextView quoteText;
         TextView quoteAuthor;
@@ -107,16 +177,12 @@ public class QuoteAdapter extends RecyclerView.Adapter<QuoteAdapter.QuoteViewHol
             categoryChip = itemView.findViewById(R.id.categoryChip);
             likeButton = itemView.findViewById(R.id.likeButton);
             copyButton = itemView.findViewById(R.id.copyButton);
-        }
-
-        public void bind(Quote quote, int position) {
-            quoteText.setText(quote.getText());
-            quoteAuthor.setText("- " + quote.getAuthor());
-            categoryChip.setText(quote.getCategory());
-
-            updateLikeButton(quote.isLiked());
 
             likeButton.setOnClickListener(v -> {
+                int position = getBindingAdapterPosition();
+                if (position == RecyclerView.NO_POSITION) return;
+
+                Quote quote = getItem(position);
                 if (interactionListener != null) {
                     interactionListener.onLikeToggle(quote, position);
                 } else if (actionListener != null) {
@@ -125,22 +191,48 @@ public class QuoteAdapter extends RecyclerView.Adapter<QuoteAdapter.QuoteViewHol
             });
 
             copyButton.setOnClickListener(v -> {
-                copyQuoteToClipboard(quote);
+                int position = getBindingAdapterPosition();
+                if (position != RecyclerView.NO_POSITION) {
+                    copyQuoteToClipboard(getItem(position));
+                }
             });
 
             itemView.setOnLongClickListener(v -> {
-                copyQuoteToClipboard(quote);
+                int position = getBindingAdapterPosition();
+                if (position != RecyclerView.NO_POSITION) {
+                    copyQuoteToClipboard(getItem(position));
+                }
                 return true;
             });
 
             categoryChip.setOnClickListener(v -> {
-                if (context != null) {
+                int position = getBindingAdapterPosition();
+                if (context != null && position != RecyclerView.NO_POSITION) {
                     android.content.Intent intent = new android.content.Intent(
                             context, CategoryDetailActivity.class);
-                    intent.putExtra("category", quote.getCategory());
+                    intent.putExtra("category", getItem(position).getCategory());
                     context.startActivity(intent);
                 }
             });
+
+            quoteAuthor.setOnClickListener(v -> {
+                int position = getBindingAdapterPosition();
+                if (context != null && position != RecyclerView.NO_POSITION
+                        && QuoteWriteBatch.authorKey(getItem(position).getAuthor()) != null) {
+                    android.content.Intent intent = new android.content.Intent(
+                            context, AuthorDetailActivity.class);
+                    intent.putExtra("author", getItem(position).getAuthor());
+                    context.startActivity(intent);
+                }
+            });
+        }
+
+        public void bind(Quote quote) {
+            quoteText.setText(quote.getText());
+            quoteAuthor.setText("- " + quote.getAuthor());
+            categoryChip.setText(quote.getCategory());
+
+            updateLikeButton(quote.isLiked());
         }
 
         private void updateLikeButton(boolean isLiked) {
@@ -162,4 +254,4 @@ public class QuoteAdapter extends RecyclerView.Adapter<QuoteAdapter.QuoteViewHol
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,242 @@
+package com.example.quotehub;
+
+import androidx.annotation.NonNull;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.Query;
+import com.google.firebase.database.ValueEventListener;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// Shared driver for one-off backfills of entries derived from each quotes/{id}. Works through
+// quotes/ in key order, one chunk per round trip, and resumes from {progressPath}/cursor.
+// Only the client holding the JobLease on {progressPath}/owner walks the data, renewing it
+// before every chunk; every other client skips the run, and takes over once the lease expires
+// if the holder goes away.
+//
+// Edits and deletes keep running meanwhile, so a chunk's entries may already be stale when they
+// land. After writing them the chunk's key range is read again: a quote that changed or is gone
+// has the entries written for it replaced by ones derived from its current value, or removed,
+// and the check repeats until a read matches what was last written. Any later edit or delete
+// then finds exactly those entries and cleans them up itself. Only then does the cursor move; a
+// chunk that keeps changing is left for the next run.
+public abstract class QuoteChunkMigration {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_VERIFY_ROUNDS = 5;
+    private static final long LEASE_TTL_MS = 2 * 60_000;
+
+    private static final Set<String> running = new HashSet<>();
+
+    private final DatabaseReference root;
+    private final String progressPath;
+    private final JobLease lease;
+
+    protected QuoteChunkMigration(DatabaseReference root, String progressPath) {
+        this.root = root;
+        this.progressPath = progressPath;
+        this.lease = new JobLease(root.child(progressPath).child("owner"), LEASE_TTL_MS);
+    }
+
+    // Adds the entries derived from one quotes/{id} value to updates.
+    protected abstract void putEntries(String quoteId, Object quoteValue, Map<String, Object> updates);
+
+    // Progress path of a migration that must be done before this one starts, or null. Keeps a
+    // client from walking quotes/ for two backfills at once.
+    protected String prerequisitePath() {
+        return null;
+    }
+
+    protected final void start() {
+        if (!running.add(progressPath)) return;
+
+        String prerequisite = prerequisitePath();
+        if (prerequisite == null) {
+            readProgress();
+            return;
+        }
+        root.child(prerequisite).child("done").addListenerForSingleValueEvent(new ValueEventListener() {
+            @Override
+            public void onDataChange(@NonNull DataSnapshot snapshot) {
+                if (Boolean.TRUE.equals(snapshot.getValue(Boolean.class))) {
+                    readProgress();
+                } else {
+                    stop();
+                }
+            }
+
+            @Override
+            public void onCancelled(@NonNull DatabaseError error) {
+                stop();
+            }
+        });
+    }
+
+    private void readProgress() {
+        root.child(progressPath).addListenerForSingleValueEvent(new ValueEventListener() {
+            @Override
+            public void onDataChange(@NonNull DataSnapshot snapshot) {
+                Boolean done = snapshot.child("done").getValue(Boolean.class);
+                if (Boolean.TRUE.equals(done)) {
+                    stop();
+                    return;
+                }
+                claimChunk();
+            }
+
+            @Override
+            public void onCancelled(@NonNull DatabaseError error) {
+                stop();
+            }
+        });
+    }
+
+    // The cursor is read again under the lease, since another holder may have moved it.
+    private void claimChunk() {
+        lease.acquire(held -> {
+            if (!held) {
+                stop();
+                return;
+            }
+            root.child(progressPath).addListenerForSingleValueEvent(new ValueEventListener() {
+                @Override
+                public void onDataChange(@NonNull DataSnapshot snapshot) {
+                    if (Boolean.TRUE.equals(snapshot.child("done").getValue(Boolean.class))) {
+                        finish();
+                        return;
+                    }
+                    migrateChunk(snapshot.child("cursor").getValue(String.class));
+                }
+
+                @Override
+                public void onCancelled(@NonNull DatabaseError error) {
+                    finish();
+                }
+            });
+        });
+    }
+
+    private void migrateChunk(String cursor) {
+        // startAt() includes the cursor row itself, so ask for one extra and skip it.
+        Query chunk = cursor == null
+                ? root.child("quotes").orderByKey().limitToFirst(CHUNK_SIZE)
+                : root.child("quotes").orderByKey().startAt(cursor).limitToFirst(CHUNK_SIZE + 1);
+
+        chunk.addListenerForSingleValueEvent(new ValueEventListener() {
+            @Override
+            public void onDataChange(@NonNull DataSnapshot snapshot) {
+                Map<String, Object> written = new LinkedHashMap<>();
+                Map<String, Object> updates = new HashMap<>();
+                for (DataSnapshot quoteSnapshot : snapshot.getChildren()) {
+                    String quoteId = quoteSnapshot.getKey();
+                    if (quoteId == null || quoteId.equals(cursor)) continue;
+
+                    Object value = quoteSnapshot.getValue();
+                    written.put(quoteId, value);
+                    putEntries(quoteId, value, updates);
+                }
+
+                boolean finished = written.size() < CHUNK_SIZE;
+                if (written.isEmpty()) {
+                    advance(cursor, true);
+                    return;
+                }
+                root.updateChildren(updates)
+                        .addOnSuccessListener(aVoid -> verifyChunk(written, finished, 1))
+                        .addOnFailureListener(e -> finish());
+            }
+
+            @Override
+            public void onCancelled(@NonNull DatabaseError error) {
+                finish();
+            }
+        });
+    }
+
+    // written maps each quote in the chunk to the value its entries were last derived from.
+    private void verifyChunk(Map<String, Object> written, boolean finished, int round) {
+        String firstKey = written.keySet().iterator().next();
+        String lastKey = null;
+        for (String quoteId : written.keySet()) {
+            lastKey = quoteId;
+        }
+        String chunkEnd = lastKey;
+
+        root.child("quotes").orderByKey().startAt(firstKey).endAt(chunkEnd)
+                .addListenerForSingleValueEvent(new ValueEventListener() {
+                    @Override
+                    public void onDataChange(@NonNull DataSnapshot snapshot) {
+                        Map<String, Object> corrections = new HashMap<>();
+                        for (Map.Entry<String, Object> entry : written.entrySet()) {
+                            String quoteId = entry.getKey();
+                            Object current = snapshot.child(quoteId).getValue();
+                            if (Objects.equals(current, entry.getValue())) continue;
+
+                            Map<String, Object> stale = new HashMap<>();
+                            putEntries(quoteId, entry.getValue(), stale);
+                            Map<String, Object> fresh = new HashMap<>();
+                            if (current != null) {
+                                putEntries(quoteId, current, fresh);
+                            }
+                            for (String path : stale.keySet()) {
+                                if (!fresh.containsKey(path)) {
+                                    corrections.put(path, null);
+                                }
+                            }
+                            corrections.putAll(fresh);
+                            entry.setValue(current);
+                        }
+
+                        if (corrections.isEmpty()) {
+                            advance(chunkEnd, finished);
+                        } else if (round >= MAX_VERIFY_ROUNDS) {
+                            finish();
+                        } else {
+                            root.updateChildren(corrections)
+                                    .addOnSuccessListener(aVoid -> verifyChunk(written, finished, round + 1))
+                                    .addOnFailureListener(e -> finish());
+                        }
+                    }
+
+                    @Override
+                    public void onCancelled(@NonNull DatabaseError error) {
+                        finish();
+                    }
+                });
+    }
+
+    private void advance(String cursor, boolean finished) {
+        Map<String, Object> progress = new HashMap<>();
+        if (cursor != null) {
+            progress.put(progressPath + "/cursor", cursor);
+        }
+        if (finished) {
+            progress.put(progressPath + "/done", true);
+        }
+
+        root.updateChildren(progress)
+                .addOnSuccessListener(aVoid -> {
+                    if (finished) {
+                        finish();
+                    } else {
+                        claimChunk();
+                    }
+                })
+                .addOnFailureListener(e -> finish());
+    }
+
+    // Ends this run and frees the lease for whoever runs next.
+    private void finish() {
+        lease.release();
+        stop();
+    }
+
+    private void stop() {
+        running.remove(progressPath);
+    }
+}
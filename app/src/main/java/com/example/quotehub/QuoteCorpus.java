@@ -0,0 +1,178 @@
+package com.example.quotehub;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Read-only view over the built-in quote catalog generated at build time from
+// src/main/corpus/quotes.tsv (see generateQuoteCorpus in app/build.gradle.kts).
+// The asset is memory-mapped once per process; strings are decoded only when a row asks for them.
+public final class QuoteCorpus {
+
+    private static final String ASSET_NAME = "quote_corpus.bin";
+    private static final int MAGIC = 0x51484331;
+
+    private static QuoteCorpus instance;
+
+    private final ByteBuffer buffer;
+    private final int offsetTableStart;
+    private final int blobStart;
+    private final Map<String, Slice> slices = new HashMap<>();
+    private final List<String> categories = new ArrayList<>();
+    private Map<String, Quote> quotesById;
+
+    public static synchronized QuoteCorpus get(Context context) {
+        if (instance == null) {
+            try {
+                instance = new QuoteCorpus(open(context.getApplicationContext()));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to load " + ASSET_NAME, e);
+            }
+        }
+        return instance;
+    }
+
+    private static ByteBuffer open(Context context) throws IOException {
+        try (AssetFileDescriptor descriptor = context.getAssets().openFd(ASSET_NAME);
+             FileInputStream input = descriptor.createInputStream()) {
+            return input.getChannel().map(FileChannel.MapMode.READ_ONLY,
+                    descriptor.getStartOffset(), descriptor.getLength());
+        } catch (IOException compressed) {
+            // openFd() only works for uncompressed assets; fall back to a heap copy.
+            try (InputStream input = context.getAssets().open(ASSET_NAME)) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                byte[] chunk = new byte[8192];
+                int read;
+                while ((read = input.read(chunk)) != -1) {
+                    bytes.write(chunk, 0, read);
+                }
+                return ByteBuffer.wrap(bytes.toByteArray());
+            }
+        }
+    }
+
+    QuoteCorpus(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+
+        ByteBuffer header = buffer.duplicate();
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Unrecognized quote corpus format");
+        }
+
+        int categoryCount = header.getInt();
+        for (int i = 0; i < categoryCount; i++) {
+            String name = readUtf(header);
+            int start = header.getInt();
+            int count = header.getInt();
+            categories.add(name);
+            slices.put(name, new Slice(name, start, count));
+        }
+
+        int quoteCount = header.getInt();
+        offsetTableStart = header.position();
+        blobStart = offsetTableStart + quoteCount * 4 * 4 + 4;
+    }
+
+    public List<String> getCategories() {
+        return Collections.unmodifiableList(categories);
+    }
+
+    public Slice getCategory(String category) {
+        Slice slice = slices.get(category);
+        return slice != null ? slice : new Slice(category, 0, 0);
+    }
+
+    // Built-in quote by its QuoteIds.forBuiltIn() id; the id index is built on first use.
+    public synchronized Quote findById(String quoteId) {
+        if (quotesById == null) {
+            quotesById = new HashMap<>();
+            for (String category : categories) {
+                Slice slice = slices.get(category);
+                for (int i = 0; i < slice.size(); i++) {
+                    Quote quote = slice.getQuote(i);
+                    quotesById.put(quote.getId(), quote);
+                }
+            }
+        }
+        Quote quote = quotesById.get(quoteId);
+        return quote != null
+                ? new Quote(quote.getId(), quote.getText(), quote.getAuthor(), quote.getCategory(), false, 0)
+                : null;
+    }
+
+    String text(int index) {
+        return string(offsetTableStart + index * 16);
+    }
+
+    String author(int index) {
+        return string(offsetTableStart + index * 16 + 8);
+    }
+
+    private String string(int entryPosition) {
+        int offset = buffer.getInt(entryPosition);
+        int length = buffer.getInt(entryPosition + 4);
+        byte[] bytes = new byte[length];
+        synchronized (buffer) {
+            buffer.position(blobStart + offset);
+            buffer.get(bytes);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // writeUTF()-encoded string: unsigned short length followed by modified UTF-8.
+    private static String readUtf(ByteBuffer header) throws IOException {
+        int length = header.getShort() & 0xFFFF;
+        byte[] bytes = new byte[length + 2];
+        bytes[0] = (byte) (length >> 8);
+        bytes[1] = (byte) length;
+        header.get(bytes, 2, length);
+        return new DataInputStream(new ByteArrayInputStream(bytes)).readUTF();
+    }
+
+    public final class Slice {
+        private final String category;
+        private final int start;
+        private final int count;
+
+        private Slice(String category, int start, int count) {
+            this.category = category;
+            this.start = start;
+            this.count = count;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public int size() {
+            return count;
+        }
+
+        public String getText(int position) {
+            return text(start + position);
+        }
+
+        public String getAuthor(int position) {
+            return author(start + position);
+        }
+
+        public Quote getQuote(int position) {
+            String text = getText(position);
+            String author = getAuthor(position);
+            return new Quote(QuoteIds.forBuiltIn(text, author), text, author, category, false, 0);
+        }
+    }
+}
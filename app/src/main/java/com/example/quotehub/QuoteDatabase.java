@@ -0,0 +1,51 @@
+package com.example.quotehub;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+
+public class QuoteDatabase extends SQLiteOpenHelper {
+
+    private static final String DATABASE_NAME = "quotehub.db";
+    private static final int DATABASE_VERSION = 1;
+
+    static final String TABLE_QUOTES = "quotes";
+    static final String TABLE_SYNC_STATE = "sync_state";
+
+    static final String COLUMN_ID = "id";
+    static final String COLUMN_TEXT = "text";
+    static final String COLUMN_AUTHOR = "author";
+    static final String COLUMN_CATEGORY = "category";
+    static final String COLUMN_USER_ID = "user_id";
+    static final String COLUMN_TIMESTAMP = "timestamp";
+
+    static final String COLUMN_KEY = "key";
+    static final String COLUMN_VALUE = "value";
+
+    public QuoteDatabase(Context context) {
+        super(context, DATABASE_NAME, null, DATABASE_VERSION);
+    }
+
+    @Override
+    public void onCreate(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE " + TABLE_QUOTES + " ("
+                + COLUMN_ID + " TEXT PRIMARY KEY, "
+                + COLUMN_TEXT + " TEXT, "
+                + COLUMN_AUTHOR + " TEXT, "
+                + COLUMN_CATEGORY + " TEXT, "
+                + COLUMN_USER_ID + " TEXT, "
+                + COLUMN_TIMESTAMP + " INTEGER NOT NULL DEFAULT 0)");
+        db.execSQL("CREATE INDEX idx_quotes_category_timestamp ON " + TABLE_QUOTES
+                + " (" + COLUMN_CATEGORY + ", " + COLUMN_TIMESTAMP + ", " + COLUMN_ID + ")");
+        db.execSQL("CREATE TABLE " + TABLE_SYNC_STATE + " ("
+                + COLUMN_KEY + " TEXT PRIMARY KEY, "
+                + COLUMN_VALUE + " TEXT NOT NULL)");
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_QUOTES);
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_SYNC_STATE);
+        onCreate(db);
+    }
+}
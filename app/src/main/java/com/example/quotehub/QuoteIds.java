@@ -0,0 +1,55 @@
+package com.example.quotehub;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// Content-derived keys for built-in quotes: the same text and author always map to the same id,
+// on every device, so seeding and liking them can never create duplicate records.
+public final class QuoteIds {
+
+    private static final String BUILT_IN_PREFIX = "builtin_";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private QuoteIds() {
+    }
+
+    public static String forBuiltIn(String text, String author) {
+        String key = normalize(text) + "|" + normalize(author);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder id = new StringBuilder(BUILT_IN_PREFIX);
+            for (int i = 0; i < 10; i++) {
+                id.append(HEX[(digest[i] >> 4) & 0xF]).append(HEX[digest[i] & 0xF]);
+            }
+            return id.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+
+    public static boolean isBuiltIn(String quoteId) {
+        return quoteId != null && quoteId.startsWith(BUILT_IN_PREFIX);
+    }
+
+    // Lower-case, strip punctuation and collapse whitespace so "Don't  stop." and "dont stop" match.
+    static String normalize(String value) {
+        if (value == null) return "";
+
+        StringBuilder normalized = new StringBuilder(value.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(c));
+                pendingSpace = false;
+            } else if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+}
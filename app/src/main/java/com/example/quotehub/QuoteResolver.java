@@ -0,0 +1,179 @@
+package com.example.quotehub;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.ValueEventListener;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Turns quote ids into quote bodies for data that stores references only (e.g. likedQuotes).
+// Ids requested during the same main-loop pass are looked up together: first in memory, then
+// LocalQuoteStore in one query, then the built-in corpus, and only what is still missing from
+// quotes/{id} on the network. Confined to the main thread; callbacks get copies they may mutate.
+public class QuoteResolver {
+
+    public interface Callback {
+        // Ids that could not be found anywhere are absent from the map.
+        void onResolved(Map<String, Quote> quotes);
+    }
+
+    private static final int MAX_CACHED = 500;
+
+    private static QuoteResolver instance;
+
+    private final Context context;
+    private final DatabaseReference mDatabase;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Map<String, Quote> cache = new LinkedHashMap<String, Quote>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Quote> eldest) {
+            return size() > MAX_CACHED;
+        }
+    };
+    private final Map<String, List<Request>> waiting = new HashMap<>();
+    private final Set<String> pendingBatch = new HashSet<>();
+    private boolean flushScheduled = false;
+
+    private QuoteResolver(Context context) {
+        this.context = context;
+        mDatabase = FirebaseDatabase.getInstance().getReference();
+    }
+
+    public static synchronized QuoteResolver get(Context context) {
+        if (instance == null) {
+            instance = new QuoteResolver(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    public void resolve(Set<String> quoteIds, Callback callback) {
+        Request request = new Request(quoteIds, callback);
+        for (String quoteId : quoteIds) {
+            Quote cached = cache.get(quoteId);
+            if (cached != null) {
+                request.complete(quoteId, cached);
+                continue;
+            }
+
+            List<Request> requests = waiting.get(quoteId);
+            if (requests == null) {
+                requests = new ArrayList<>();
+                waiting.put(quoteId, requests);
+                pendingBatch.add(quoteId);
+            }
+            requests.add(request);
+        }
+        request.deliverIfDone();
+
+        if (!pendingBatch.isEmpty() && !flushScheduled) {
+            flushScheduled = true;
+            mainHandler.post(this::flush);
+        }
+    }
+
+    // Built-in corpus quote with this text and author, or null; a pure local lookup.
+    public Quote findBuiltIn(String text, String author) {
+        return QuoteCorpus.get(context).findById(QuoteIds.forBuiltIn(text, author));
+    }
+
+    // Drops a cached body so the next resolve() reads it again, e.g. after the quote was edited.
+    public void invalidate(String quoteId) {
+        cache.remove(quoteId);
+    }
+
+    private void flush() {
+        flushScheduled = false;
+        Set<String> batch = new HashSet<>(pendingBatch);
+        pendingBatch.clear();
+
+        LocalQuoteStore.get(context).loadQuotesByIds(batch, local -> {
+            QuoteCorpus corpus = QuoteCorpus.get(context);
+            for (String quoteId : batch) {
+                Quote quote = local.get(quoteId);
+                if (quote == null && QuoteIds.isBuiltIn(quoteId)) {
+                    quote = corpus.findById(quoteId);
+                }
+                if (quote != null) {
+                    found(quoteId, quote);
+                } else {
+                    fetchRemote(quoteId);
+                }
+            }
+        });
+    }
+
+    private void fetchRemote(String quoteId) {
+        mDatabase.child("quotes").child(quoteId).addListenerForSingleValueEvent(new ValueEventListener() {
+            @Override
+            public void onDataChange(@NonNull DataSnapshot snapshot) {
+                Quote quote = SnapshotMappers.toQuote(snapshot);
+                if (quote != null) {
+                    found(quoteId, quote);
+                } else {
+                    missing(quoteId);
+                }
+            }
+
+            @Override
+            public void onCancelled(@NonNull DatabaseError error) {
+                missing(quoteId);
+            }
+        });
+    }
+
+    private void found(String quoteId, Quote quote) {
+        cache.put(quoteId, quote);
+        List<Request> requests = waiting.remove(quoteId);
+        if (requests == null) return;
+        for (Request request : requests) {
+            request.complete(quoteId, quote);
+            request.deliverIfDone();
+        }
+    }
+
+    private void missing(String quoteId) {
+        List<Request> requests = waiting.remove(quoteId);
+        if (requests == null) return;
+        for (Request request : requests) {
+            request.complete(quoteId, null);
+            request.deliverIfDone();
+        }
+    }
+
+    private static class Request {
+        final Set<String> remaining;
+        final Map<String, Quote> results = new HashMap<>();
+        final Callback callback;
+        boolean delivered = false;
+
+        Request(Set<String> quoteIds, Callback callback) {
+            this.remaining = new HashSet<>(quoteIds);
+            this.callback = callback;
+        }
+
+        void complete(String quoteId, Quote quote) {
+            remaining.remove(quoteId);
+            if (quote != null) {
+                results.put(quoteId, new Quote(quote.getId(), quote.getText(), quote.getAuthor(),
+                        quote.getCategory(), quote.isLiked(), quote.getTimestamp(), quote.getUserId()));
+            }
+        }
+
+        void deliverIfDone() {
+            if (delivered || !remaining.isEmpty()) return;
+            delivered = true;
+            callback.onResolved(results);
+        }
+    }
+}
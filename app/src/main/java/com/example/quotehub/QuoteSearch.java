@@ -0,0 +1,62 @@
+package com.example.quotehub;
+
+import android.content.Context;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Process-wide full-text search over the built-in corpus and the on-device copy of quotes/.
+// The index is built lazily on first use, in batches, so early queries already see whatever has
+// been indexed; afterwards it follows LocalQuoteStore writes as they commit.
+public class QuoteSearch {
+
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    private static QuoteSearch instance;
+
+    private final Context context;
+    private final QuoteSearchIndex index = new QuoteSearchIndex();
+    private final ExecutorService corpusExecutor = Executors.newSingleThreadExecutor();
+    private boolean started = false;
+
+    private QuoteSearch(Context context) {
+        this.context = context;
+    }
+
+    public static synchronized QuoteSearch get(Context context) {
+        if (instance == null) {
+            instance = new QuoteSearch(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    public synchronized void ensureIndexed() {
+        if (started) return;
+        started = true;
+
+        corpusExecutor.execute(() -> {
+            QuoteCorpus corpus = QuoteCorpus.get(context);
+            for (String category : corpus.getCategories()) {
+                QuoteCorpus.Slice slice = corpus.getCategory(category);
+                for (int i = 0; i < slice.size(); i++) {
+                    index.put(slice.getQuote(i));
+                }
+            }
+        });
+
+        LocalQuoteStore store = LocalQuoteStore.get(context);
+        store.addChangeListener((changed, deletedIds) -> {
+            for (String quoteId : deletedIds) {
+                index.remove(quoteId);
+            }
+            index.putAll(changed);
+        });
+        store.scan(SCAN_BATCH_SIZE, index::putAll);
+    }
+
+    // Blocking; call from a background thread such as a SnapshotPipeline stage.
+    public List<Quote> search(String query, int limit) {
+        ensureIndexed();
+        return index.search(query, limit);
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.quotehub;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+// In-memory inverted index over quote text and author, ranked with BM25.
+//
+// Every put() appends a new document number, so each term's posting list is a pair of int
+// arrays already sorted by document. Replacing or removing a quote only marks its old number
+// dead; dead postings are skipped while scoring and dropped by compact() once they outnumber the
+// live ones. The term dictionary is sorted so the word still being typed can match by prefix.
+// All methods are synchronized; the index is filled from background threads and queried from
+// another.
+public class QuoteSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    // A single letter matches only itself; expanding it would touch most of the index.
+    private static final int MIN_PREFIX_LENGTH = 2;
+    // Bounds the work for short prefixes such as "th".
+    private static final int MAX_PREFIX_TERMS = 64;
+
+    private static final class Postings {
+        int[] docs = new int[4];
+        int[] freqs = new int[4];
+        int size;
+        int liveCount;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+            liveCount++;
+        }
+    }
+
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final Map<String, Integer> docByQuoteId = new HashMap<>();
+    private Quote[] quotes = new Quote[64];
+    private String[][] docTerms = new String[64][];
+    private int[] docLengths = new int[64];
+    private int docCount = 0;
+    private int liveCount = 0;
+    private long liveLength = 0;
+
+    // Per-query scratch, reused across searches and reset only where a query touched it.
+    private float[] scores = new float[0];
+    private int[] matched = new int[0];
+    private int[] touched = new int[64];
+    private int touchedCount = 0;
+
+    public synchronized void put(Quote quote) {
+        if (quote == null || quote.getId() == null) return;
+        remove(quote.getId());
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        List<String> tokens = tokenize(quote.getText());
+        tokens.addAll(tokenize(quote.getAuthor()));
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+            length++;
+        }
+
+        int doc = docCount++;
+        if (doc == quotes.length) {
+            quotes = Arrays.copyOf(quotes, doc * 2);
+            docTerms = Arrays.copyOf(docTerms, doc * 2);
+            docLengths = Arrays.copyOf(docLengths, doc * 2);
+        }
+        quotes[doc] = quote;
+        docTerms[doc] = frequencies.keySet().toArray(new String[0]);
+        docLengths[doc] = length;
+        docByQuoteId.put(quote.getId(), doc);
+        liveCount++;
+        liveLength += length;
+
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            Postings postings = terms.get(entry.getKey());
+            if (postings == null) {
+                postings = new Postings();
+                terms.put(entry.getKey(), postings);
+            }
+            postings.add(doc, entry.getValue());
+        }
+    }
+
+    public synchronized void putAll(List<Quote> batch) {
+        for (Quote quote : batch) {
+            put(quote);
+        }
+    }
+
+    public synchronized void remove(String quoteId) {
+        Integer doc = docByQuoteId.remove(quoteId);
+        if (doc == null) return;
+
+        for (String term : docTerms[doc]) {
+            terms.get(term).liveCount--;
+        }
+        quotes[doc] = null;
+        docTerms[doc] = null;
+        liveCount--;
+        liveLength -= docLengths[doc];
+
+        if (docCount - liveCount > Math.max(liveCount, 1024)) {
+            compact();
+        }
+    }
+
+    public synchronized int size() {
+        return liveCount;
+    }
+
+    // Quotes containing every word of the query, best first. Unless the query ends in whitespace,
+    // its last word (from two letters on) also matches any longer term it is a prefix of.
+    public synchronized List<Quote> search(String query, int limit) {
+        List<Quote> results = new ArrayList<>();
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || liveCount == 0 || limit <= 0) return results;
+
+        boolean lastIsPrefix = !Character.isWhitespace(query.charAt(query.length() - 1));
+        float averageLength = Math.max((float) liveLength / liveCount, 1f);
+        if (scores.length < docCount) {
+            scores = new float[quotes.length];
+            matched = new int[quotes.length];
+        }
+        touchedCount = 0;
+
+        try {
+            for (int i = 0; i < tokens.size(); i++) {
+                String token = tokens.get(i);
+                if (lastIsPrefix && i == tokens.size() - 1 && token.length() >= MIN_PREFIX_LENGTH) {
+                    int expanded = 0;
+                    for (Map.Entry<String, Postings> entry
+                            : terms.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+                        if (entry.getValue().liveCount == 0) continue;
+                        score(entry.getValue(), i, averageLength);
+                        if (++expanded == MAX_PREFIX_TERMS) break;
+                    }
+                } else {
+                    Postings postings = terms.get(token);
+                    if (postings == null || postings.liveCount == 0) return results;
+                    score(postings, i, averageLength);
+                }
+            }
+
+            PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, (a, b) -> Float.compare(scores[a], scores[b]));
+            for (int i = 0; i < touchedCount; i++) {
+                int doc = touched[i];
+                if (matched[doc] != tokens.size()) continue;
+                top.add(doc);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            while (!top.isEmpty()) {
+                Quote quote = quotes[top.poll()];
+                results.add(new Quote(quote.getId(), quote.getText(), quote.getAuthor(), quote.getCategory(),
+                        false, quote.getTimestamp(), quote.getUserId()));
+            }
+            Collections.reverse(results);
+            return results;
+        } finally {
+            for (int i = 0; i < touchedCount; i++) {
+                scores[touched[i]] = 0;
+                matched[touched[i]] = 0;
+            }
+        }
+    }
+
+    // matched[doc] counts query words seen so far; a doc only keeps scoring while it has matched
+    // every earlier word, and is counted once per word even if several prefix terms hit it.
+    private void score(Postings postings, int tokenIndex, float averageLength) {
+        float idf = (float) Math.log(1 + (liveCount - postings.liveCount + 0.5) / (postings.liveCount + 0.5));
+        for (int i = 0; i < postings.size; i++) {
+            int doc = postings.docs[i];
+            if (quotes[doc] == null || matched[doc] < tokenIndex) continue;
+
+            if (tokenIndex == 0 && matched[doc] == 0) {
+                if (touchedCount == touched.length) {
+                    touched = Arrays.copyOf(touched, touchedCount * 2);
+                }
+                touched[touchedCount++] = doc;
+            }
+            float tf = postings.freqs[i];
+            float norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+            scores[doc] += idf * tf * (K1 + 1) / (tf + norm);
+            if (matched[doc] == tokenIndex) {
+                matched[doc]++;
+            }
+        }
+    }
+
+    // Renumbers live documents from zero and rebuilds the posting lists without the dead entries.
+    private void compact() {
+        Quote[] live = new Quote[Math.max(liveCount, 64)];
+        int count = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (quotes[doc] != null) {
+                live[count++] = quotes[doc];
+            }
+        }
+
+        terms.clear();
+        docByQuoteId.clear();
+        quotes = new Quote[live.length];
+        docTerms = new String[live.length][];
+        docLengths = new int[live.length];
+        docCount = 0;
+        liveCount = 0;
+        liveLength = 0;
+        for (int i = 0; i < count; i++) {
+            put(live[i]);
+        }
+    }
+
+    static List<String> tokenize(String value) {
+        List<String> tokens = new ArrayList<>();
+        String normalized = QuoteIds.normalize(value);
+        int start = 0;
+        while (start < normalized.length()) {
+            int end = normalized.indexOf(' ', start);
+            if (end < 0) {
+                end = normalized.length();
+            }
+            tokens.add(normalized.substring(start, end));
+            start = end + 1;
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.quotehub;
+
+import com.google.firebase.database.DatabaseReference;
+import java.util.Map;
+
+// One-off copy of quotes/ into quotesByCategory/{category}/{id} for data written before the
+// shard existed. QuoteChunkMigration walks quotes/ and keeps the copies in step with edits and
+// deletes made while it runs.
+public class QuoteShardMigration extends QuoteChunkMigration {
+
+    static final String PROGRESS_PATH = "migrations/quotesByCategory";
+
+    private QuoteShardMigration(DatabaseReference root) {
+        super(root, PROGRESS_PATH);
+    }
+
+    public static void runIfNeeded(DatabaseReference root) {
+        new QuoteShardMigration(root).start();
+    }
+
+    @Override
+    protected void putEntries(String quoteId, Object quoteValue, Map<String, Object> updates) {
+        if (!(quoteValue instanceof Map)) return;
+
+        Object category = ((Map<?, ?>) quoteValue).get("category");
+        if (category instanceof String) {
+            updates.put(QuoteWriteBatch.shardPath((String) category, quoteId), quoteValue);
+        }
+    }
+}
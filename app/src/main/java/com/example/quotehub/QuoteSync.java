@@ -0,0 +1,183 @@
+package com.example.quotehub;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.Query;
+import com.google.firebase.database.ValueEventListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Pulls only what changed since the last sync into LocalQuoteStore, as two streams ordered by
+// the server clock: quotes/ by updatedAt, then quoteTombstones/{id} = deletedAt for deletes.
+// Each stream is read PAGE_SIZE rows at a time from its stored (value, key) cursor, and every
+// page is applied together with its cursor, so a first sync is bounded per round trip and an
+// interrupted one resumes where it stopped. Concurrent sync() calls share the one in flight.
+public class QuoteSync {
+
+    public interface Listener {
+        void onSyncComplete(Set<String> changedCategories);
+        void onSyncFailed(String error);
+    }
+
+    private static final int PAGE_SIZE = 500;
+    private static final String STREAM_QUOTES = "quotes_cursor";
+    private static final String STREAM_TOMBSTONES = "tombstones_cursor";
+
+    private static final class Page {
+        final List<Quote> quotes = new ArrayList<>();
+        final List<String> deletedIds = new ArrayList<>();
+        LocalQuoteStore.SyncCursor last;
+        int rows;
+    }
+
+    private static QuoteSync instance;
+
+    private final LocalQuoteStore store;
+    private final DatabaseReference mDatabase;
+    private final SnapshotPipeline pipeline = new SnapshotPipeline();
+    private final List<Listener> pendingListeners = new ArrayList<>();
+    private final Set<String> changedCategories = new HashSet<>();
+    private boolean syncing = false;
+
+    private QuoteSync(Context context) {
+        store = LocalQuoteStore.get(context);
+        mDatabase = FirebaseDatabase.getInstance().getReference();
+    }
+
+    public static synchronized QuoteSync get(Context context) {
+        if (instance == null) {
+            instance = new QuoteSync(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    public void sync(Listener listener) {
+        if (listener != null) {
+            pendingListeners.add(listener);
+        }
+        if (syncing) return;
+
+        syncing = true;
+        changedCategories.clear();
+        store.getSyncCursor(STREAM_QUOTES, cursor -> fetchPage(STREAM_QUOTES, cursor));
+    }
+
+    // Fills one category from its quotesByCategory shard, for a category opened before the
+    // first full sync has landed. Does not move the sync cursors; sync() still runs as usual.
+    public void syncCategory(String category, int limit, Listener listener) {
+        mDatabase.child("quotesByCategory").child(category).orderByChild("timestamp").limitToFirst(limit)
+                .addListenerForSingleValueEvent(new ValueEventListener() {
+                    @Override
+                    public void onDataChange(@NonNull DataSnapshot snapshot) {
+                        String key = "category:" + category + ":" + System.identityHashCode(listener);
+                        pipeline.submit(key, () -> parseQuotes(snapshot), quotes -> {
+                            store.upsert(quotes);
+                            listener.onSyncComplete(Collections.singleton(category));
+                        }, error -> listener.onSyncFailed(error.getMessage()));
+                    }
+
+                    @Override
+                    public void onCancelled(@NonNull DatabaseError error) {
+                        listener.onSyncFailed(error.getMessage());
+                    }
+                });
+    }
+
+    private void fetchPage(String stream, LocalQuoteStore.SyncCursor cursor) {
+        boolean tombstones = STREAM_TOMBSTONES.equals(stream);
+        Query ordered = tombstones
+                ? mDatabase.child("quoteTombstones").orderByValue()
+                : mDatabase.child("quotes").orderByChild("updatedAt");
+        // startAt() includes the cursor row itself, so ask for one extra and skip it.
+        Query page;
+        if (cursor == null) {
+            page = ordered.limitToFirst(PAGE_SIZE);
+        } else if (cursor.value == null) {
+            page = ordered.startAt((String) null, cursor.key).limitToFirst(PAGE_SIZE + 1);
+        } else {
+            page = ordered.startAt(cursor.value.doubleValue(), cursor.key).limitToFirst(PAGE_SIZE + 1);
+        }
+
+        page.addListenerForSingleValueEvent(new ValueEventListener() {
+            @Override
+            public void onDataChange(@NonNull DataSnapshot snapshot) {
+                // A failed parse must still end the sync, or syncing would stay set for good.
+                pipeline.submit(stream, () -> parsePage(snapshot, cursor, tombstones),
+                        parsed -> applyPage(stream, cursor, parsed), error -> finish(error.getMessage()));
+            }
+
+            @Override
+            public void onCancelled(@NonNull DatabaseError error) {
+                finish(error.getMessage());
+            }
+        });
+    }
+
+    private void applyPage(String stream, LocalQuoteStore.SyncCursor cursor, Page page) {
+        store.applyDelta(page.quotes, page.deletedIds, stream, page.last != null ? page.last : cursor,
+                categories -> {
+                    changedCategories.addAll(categories);
+                    if (page.rows == PAGE_SIZE) {
+                        fetchPage(stream, page.last);
+                    } else if (STREAM_QUOTES.equals(stream)) {
+                        store.getSyncCursor(STREAM_TOMBSTONES, next -> fetchPage(STREAM_TOMBSTONES, next));
+                    } else {
+                        finish(null);
+                    }
+                });
+    }
+
+    private static Page parsePage(DataSnapshot snapshot, LocalQuoteStore.SyncCursor cursor, boolean tombstones) {
+        Page page = new Page();
+        for (DataSnapshot child : snapshot.getChildren()) {
+            String key = child.getKey();
+            if (key == null || (cursor != null && key.equals(cursor.key))) continue;
+
+            Object value = tombstones ? child.getValue() : child.child("updatedAt").getValue();
+            page.last = new LocalQuoteStore.SyncCursor(value instanceof Number ? ((Number) value).longValue() : null, key);
+            page.rows++;
+            if (tombstones) {
+                page.deletedIds.add(key);
+            } else {
+                Quote quote = SnapshotMappers.toQuote(child);
+                if (quote != null) {
+                    page.quotes.add(quote);
+                }
+            }
+        }
+        return page;
+    }
+
+    private static List<Quote> parseQuotes(DataSnapshot snapshot) {
+        List<Quote> quotes = new ArrayList<>();
+        for (DataSnapshot quoteSnapshot : snapshot.getChildren()) {
+            Quote quote = SnapshotMappers.toQuote(quoteSnapshot);
+            if (quote != null) {
+                quotes.add(quote);
+            }
+        }
+        return quotes;
+    }
+
+    private void finish(String error) {
+        syncing = false;
+        Set<String> categories = new HashSet<>(changedCategories);
+        changedCategories.clear();
+        List<Listener> listeners = new ArrayList<>(pendingListeners);
+        pendingListeners.clear();
+        for (Listener listener : listeners) {
+            if (error != null) {
+                listener.onSyncFailed(error);
+            } else {
+                listener.onSyncComplete(categories);
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.quotehub;
+
+import com.google.android.gms.tasks.Task;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.ServerValue;
+import java.util.HashMap;
+import java.util.Map;
+
+// Collects every fan-out path of a quote create/edit/delete into one updateChildren() map,
+// so the whole change lands in a single round trip and either fully applies or not at all.
+// quotes/{id} stays the canonical copy and carries a server-set updatedAt that QuoteSync pages
+// by; quotesByCategory/{category}/{id} mirrors it per category,
+// and authors/{authorKey}/{id} = timestamp lists each author's quotes. categoryCounts/{category}
+// holds the quote count and a writes sequence that every create and delete bumps, so a
+// recount can tell whether the category changed while it ran (see CategoryCountReconcile).
+public class QuoteWriteBatch {
+
+    private final DatabaseReference root;
+    private final Map<String, Object> updates = new HashMap<>();
+    // Counter paths are summed so several quotes in one batch can touch the same counter.
+    private final Map<String, Long> increments = new HashMap<>();
+
+    public QuoteWriteBatch(DatabaseReference root) {
+        this.root = root;
+    }
+
+    public String newQuoteId() {
+        return root.child("quotes").push().getKey();
+    }
+
+    public static String shardPath(String category, String quoteId) {
+        return "quotesByCategory/" + category + "/" + quoteId;
+    }
+
+    // Spellings that differ only in case, punctuation or spacing share one key; null when the
+    // author has no letters or digits at all.
+    public static String authorKey(String author) {
+        String key = QuoteIds.normalize(author);
+        return key.isEmpty() ? null : key;
+    }
+
+    public static String authorPath(String authorKey, String quoteId) {
+        return "authors/" + authorKey + "/" + quoteId;
+    }
+
+    public static String categoryCountPath(String category) {
+        return "categoryCounts/" + category + "/count";
+    }
+
+    public static String categoryWritesPath(String category) {
+        return "categoryCounts/" + category + "/writes";
+    }
+
+    // The quotes/{id} value, stamped with the server clock so QuoteSync never compares device clocks.
+    public static Map<String, Object> canonicalValue(Quote quote) {
+        Map<String, Object> value = SnapshotMappers.toMap(quote);
+        value.put("updatedAt", ServerValue.TIMESTAMP);
+        return value;
+    }
+
+    public QuoteWriteBatch createQuote(Quote quote, String userId) {
+        updates.put("quotes/" + quote.getId(), canonicalValue(quote));
+        updates.put(shardPath(quote.getCategory(), quote.getId()), SnapshotMappers.toMap(quote));
+        putAuthorEntry(quote);
+        increment(categoryCountPath(quote.getCategory()), 1);
+        increment(categoryWritesPath(quote.getCategory()), 1);
+        if (userId != null) {
+            updates.put("users/" + userId + "/customQuotes/" + quote.getId(), SnapshotMappers.toMap(quote));
+            increment(UserStats.customQuotesPath(userId), 1);
+        }
+        return this;
+    }
+
+    public QuoteWriteBatch updateQuote(Quote quote, String previousAuthor, String userId) {
+        updates.put("quotes/" + quote.getId(), canonicalValue(quote));
+        updates.put(shardPath(quote.getCategory(), quote.getId()), SnapshotMappers.toMap(quote));
+        String previousKey = authorKey(previousAuthor);
+        if (previousKey != null && !previousKey.equals(authorKey(quote.getAuthor()))) {
+            updates.put(authorPath(previousKey, quote.getId()), null);
+        }
+        putAuthorEntry(quote);
+        if (userId != null) {
+            updates.put("users/" + userId + "/customQuotes/" + quote.getId(), SnapshotMappers.toMap(quote));
+        }
+        return this;
+    }
+
+    public QuoteWriteBatch deleteQuote(String quoteId, String category, String author, String userId) {
+        updates.put("quotes/" + quoteId, null);
+        updates.put("quoteTombstones/" + quoteId, ServerValue.TIMESTAMP);
+        String authorKey = authorKey(author);
+        if (authorKey != null) {
+            updates.put(authorPath(authorKey, quoteId), null);
+        }
+        if (category != null) {
+            updates.put(shardPath(category, quoteId), null);
+            increment(categoryCountPath(category), -1);
+            increment(categoryWritesPath(category), 1);
+        }
+        if (userId != null) {
+            updates.put("users/" + userId + "/customQuotes/" + quoteId, null);
+            increment(UserStats.customQuotesPath(userId), -1);
+        }
+        return this;
+    }
+
+    public QuoteWriteBatch logActivity(String userId, String action, String description, String quoteId, long timestamp) {
+        String activityId = root.child("users").child(userId).child("activityLog").push().getKey();
+        if (activityId != null) {
+            ActivityLog log = new ActivityLog(activityId, action, description, timestamp, quoteId);
+            updates.put("users/" + userId + "/activityLog/" + activityId, SnapshotMappers.toMap(log));
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return updates.isEmpty() && increments.isEmpty();
+    }
+
+    public Task<Void> commit() {
+        for (Map.Entry<String, Long> entry : increments.entrySet()) {
+            if (entry.getValue() != 0) {
+                updates.put(entry.getKey(), ServerValue.increment(entry.getValue()));
+            }
+        }
+        increments.clear();
+        return root.updateChildren(updates);
+    }
+
+    private void putAuthorEntry(Quote quote) {
+        String authorKey = authorKey(quote.getAuthor());
+        if (authorKey != null) {
+            updates.put(authorPath(authorKey, quote.getId()), quote.getTimestamp());
+        }
+    }
+
+    private void increment(String path, long delta) {
+        increments.put(path, increments.getOrDefault(path, 0L) + delta);
+    }
+}
@@ -187,7 +187,7 @@ public class RegisterActivity extends AppCompatActivity {
     private void saveUserToDatabase(String userId, String email) {
         User user = new User(userId, email, System.currentTimeMillis());
 
-        mDatabase.child("users").child(userId).setValue(user)
+        mDatabase.child("profiles").child(userId).setValue(SnapshotMappers.toMap(user))
                 .addOnSuccessListener(aVoid -> {
                     Toast.makeText(RegisterActivity.this,
                             "Account created successfully! Please login.", Toast.LENGTH_LONG).show();
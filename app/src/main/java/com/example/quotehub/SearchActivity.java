@@ -0,0 +1,170 @@
+package com.example.quotehub;
+
+import android.os.Bundle;
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.view.View;
+import android.widget.EditText;
+import android.widget.ImageView;
+import android.widget.TextView;
+import android.widget.Toast;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import com.google.firebase.auth.FirebaseAuth;
+import java.util.ArrayList;
+import java.util.List;
+
+// Results as you type: every edit resubmits the query under one SnapshotPipeline key, so a
+// keystroke cancels the search still running for the previous one.
+public class SearchActivity extends AppCompatActivity implements QuoteAdapter.OnQuoteInteractionListener {
+
+    private static final int MAX_RESULTS = 50;
+
+    private FirebaseAuth mAuth;
+    private String userId;
+    private List<Quote> results = new ArrayList<>();
+    private QuoteAdapter quoteAdapter;
+    private TextView emptyState;
+    private SnapshotPipeline pipeline;
+    private LikedQuotesStore.Observer likesObserver;
+    private final LikeWriteQueue.Listener likeFailureListener = quoteIds -> {
+        for (String quoteId : quoteIds) {
+            refreshQuoteLiked(quoteId);
+        }
+        Toast.makeText(this, "Failed to update favorites", Toast.LENGTH_SHORT).show();
+    };
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_search);
+
+        pipeline = new SnapshotPipeline(this);
+        QuoteSearch.get(this).ensureIndexed();
+
+        initializeFirebase();
+        initializeViews();
+        observeLikes();
+    }
+
+    private void initializeFirebase() {
+        mAuth = FirebaseAuth.getInstance();
+        if (mAuth.getCurrentUser() != null) {
+            userId = mAuth.getCurrentUser().getUid();
+        }
+    }
+
+    private void initializeViews() {
+        ImageView backButton = findViewById(R.id.backButton);
+        backButton.setOnClickListener(v -> finish());
+
+        emptyState = findViewById(R.id.emptyState);
+        RecyclerView recyclerView = findViewById(R.id.searchResultsRecyclerView);
+        recyclerView.setLayoutManager(new LinearLayoutManager(this));
+        quoteAdapter = new QuoteAdapter((QuoteAdapter.OnQuoteInteractionListener) this);
+        recyclerView.setAdapter(quoteAdapter);
+
+        EditText searchInput = findViewById(R.id.searchInput);
+        searchInput.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+            }
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+            }
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                search(s.toString());
+            }
+        });
+        searchInput.requestFocus();
+    }
+
+    private void search(String query) {
+        if (query.trim().isEmpty()) {
+            pipeline.cancelAll();
+            showResults(new ArrayList<>(), false);
+            return;
+        }
+
+        QuoteSearch search = QuoteSearch.get(this);
+        pipeline.submit("search", () -> search.search(query, MAX_RESULTS),
+                quotes -> showResults(quotes, true));
+    }
+
+    private void showResults(List<Quote> quotes, boolean searched) {
+        LikeWriteQueue likeQueue = LikeWriteQueue.get(this);
+        for (Quote quote : quotes) {
+            quote.setLiked(likeQueue.isLiked(quote.getId()));
+        }
+        results = quotes;
+        quoteAdapter.setQuotes(results);
+        emptyState.setVisibility(searched && results.isEmpty() ? View.VISIBLE : View.GONE);
+    }
+
+    private void observeLikes() {
+        if (userId == null) return;
+
+        likesObserver = new LikedQuotesStore.Observer() {
+            @Override
+            public void onLikedQuoteAdded(Quote quote) {
+                refreshQuoteLiked(quote.getId());
+            }
+
+            @Override
+            public void onLikedQuoteChanged(Quote quote) {
+            }
+
+            @Override
+            public void onLikedQuoteRemoved(Quote quote) {
+                refreshQuoteLiked(quote.getId());
+            }
+
+            @Override
+            public void onLikedQuotesError(String error) {
+            }
+        };
+        LikedQuotesStore.getInstance().subscribe(this, userId, likesObserver);
+        LikeWriteQueue.get(this).addListener(likeFailureListener);
+    }
+
+    private void refreshQuoteLiked(String quoteId) {
+        boolean liked = LikeWriteQueue.get(this).isLiked(quoteId);
+        for (Quote quote : results) {
+            if (quote.getId().equals(quoteId) && quote.isLiked() != liked) {
+                quote.setLiked(liked);
+                quoteAdapter.setQuotes(results);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onLikeToggle(Quote clickedQuote, int position) {
+        if (userId == null) {
+            Toast.makeText(this, "Please sign in to like quotes", Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        if (position >= results.size()) return;
+
+        Quote quote = results.get(position);
+        boolean liked = !quote.isLiked();
+        quote.setLiked(liked);
+        quoteAdapter.setQuotes(results);
+        LikeWriteQueue.get(this).setLiked(userId, quote.getId(), liked);
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        LikeWriteQueue.get(this).removeListener(likeFailureListener);
+        if (likesObserver != null) {
+            LikedQuotesStore.getInstance().unsubscribe(likesObserver);
+            likesObserver = null;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.quotehub;
+
+import com.google.firebase.database.DataSnapshot;
+import java.util.HashMap;
+import java.util.Map;
+
+// Hand-written conversions between the models and the plain maps Firebase hands back from
+// DataSnapshot.getValue(). Avoids the reflective bean mapper behind getValue(Class), which
+// dominates list-load time on large snapshots and needs the models kept from R8.
+// Field names must stay in sync with the getters the bean mapper used, so existing data reads back.
+public final class SnapshotMappers {
+
+    private SnapshotMappers() {
+    }
+
+    public static Quote toQuote(DataSnapshot snapshot) {
+        return toQuote(snapshot.getKey(), snapshot.getValue());
+    }
+
+    // key fills in the id for rows written without one.
+    public static Quote toQuote(String key, Object value) {
+        if (!(value instanceof Map)) return null;
+        Map<?, ?> map = (Map<?, ?>) value;
+
+        Quote quote = new Quote();
+        String id = asString(map.get("id"));
+        quote.setId(id != null ? id : key);
+        quote.setText(asString(map.get("text")));
+        quote.setAuthor(asString(map.get("author")));
+        quote.setCategory(asString(map.get("category")));
+        quote.setLiked(asBoolean(map.get("liked")));
+        quote.setTimestamp(asLong(map.get("timestamp")));
+        quote.setUserId(asString(map.get("userId")));
+        return quote;
+    }
+
+    public static Map<String, Object> toMap(Quote quote) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", quote.getId());
+        map.put("text", quote.getText());
+        map.put("author", quote.getAuthor());
+        map.put("category", quote.getCategory());
+        map.put("liked", quote.isLiked());
+        map.put("timestamp", quote.getTimestamp());
+        map.put("userId", quote.getUserId());
+        return map;
+    }
+
+    public static User toUser(DataSnapshot snapshot) {
+        return toUser(snapshot.getKey(), snapshot.getValue());
+    }
+
+    public static User toUser(String key, Object value) {
+        if (!(value instanceof Map)) return null;
+        Map<?, ?> map = (Map<?, ?>) value;
+
+        User user = new User();
+        String id = asString(map.get("id"));
+        user.setId(id != null ? id : key);
+        user.setEmail(asString(map.get("email")));
+        user.setCreatedAt(asLong(map.get("createdAt")));
+        user.setLastLogin(asLong(map.get("lastLogin")));
+        return user;
+    }
+
+    public static Map<String, Object> toMap(User user) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", user.getId());
+        map.put("email", user.getEmail());
+        map.put("createdAt", user.getCreatedAt());
+        map.put("lastLogin", user.getLastLogin());
+        return map;
+    }
+
+    public static ActivityLog toActivityLog(DataSnapshot snapshot) {
+        return toActivityLog(snapshot.getKey(), snapshot.getValue());
+    }
+
+    public static ActivityLog toActivityLog(String key, Object value) {
+        if (!(value instanceof Map)) return null;
+        Map<?, ?> map = (Map<?, ?>) value;
+
+        ActivityLog log = new ActivityLog();
+        String id = asString(map.get("id"));
+        log.setId(id != null ? id : key);
+        log.setAction(asString(map.get("action")));
+        log.setDescription(asString(map.get("description")));
+        log.setTimestamp(asLong(map.get("timestamp")));
+        log.setQuoteId(asString(map.get("quoteId")));
+        return log;
+    }
+
+    public static Map<String, Object> toMap(ActivityLog log) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", log.getId());
+        map.put("action", log.getAction());
+        map.put("description", log.getDescription());
+        map.put("timestamp", log.getTimestamp());
+        map.put("quoteId", log.getQuoteId());
+        return map;
+    }
+
+    private static String asString(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    // Firebase returns whole numbers as Long and fractional ones as Double.
+    private static long asLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    private static boolean asBoolean(Object value) {
+        return value instanceof Boolean && (Boolean) value;
+    }
+}
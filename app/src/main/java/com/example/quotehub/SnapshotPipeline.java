@@ -0,0 +1,126 @@
+package com.example.quotehub;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Moves snapshot parsing and list preparation off the main thread. Work is submitted under a key;
+// a newer submission for the same key cancels the older one, and only the latest result is
+// posted back to the main thread. With an owner, nothing is delivered after it is destroyed.
+// A stage that throws, or work turned away because the queue is full, is reported to the
+// submission's ErrorHandler on the main thread instead of vanishing inside its Future.
+public class SnapshotPipeline implements DefaultLifecycleObserver {
+
+    public interface Stage<T> {
+        T process();
+    }
+
+    public interface Consumer<T> {
+        void accept(T result);
+    }
+
+    public interface ErrorHandler {
+        void onError(Exception error);
+    }
+
+    private static final String TAG = "SnapshotPipeline";
+    private static final int THREAD_COUNT = 2;
+    // Keys replace their own older work, so the backlog is at most one task per live key; a full
+    // queue means something is submitting without bound, and new work is refused (AbortPolicy)
+    // and reported rather than queued behind it.
+    private static final int QUEUE_CAPACITY = 64;
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+            THREAD_COUNT, THREAD_COUNT, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            new ThreadPoolExecutor.AbortPolicy());
+    private static final ErrorHandler LOG_ERRORS = error -> Log.e(TAG, "Stage failed", error);
+    private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private final Map<String, Future<?>> inFlight = new HashMap<>();
+    private final Map<String, Integer> generations = new HashMap<>();
+    private boolean destroyed = false;
+
+    public SnapshotPipeline() {
+    }
+
+    public SnapshotPipeline(LifecycleOwner owner) {
+        owner.getLifecycle().addObserver(this);
+    }
+
+    // Must be called on the main thread. Failures are only logged.
+    public <T> void submit(String key, Stage<T> stage, Consumer<T> consumer) {
+        submit(key, stage, consumer, LOG_ERRORS);
+    }
+
+    // Must be called on the main thread. Exactly one of consumer or onError is called, unless the
+    // work is superseded, cancelled or the owner is destroyed first.
+    public <T> void submit(String key, Stage<T> stage, Consumer<T> consumer, ErrorHandler onError) {
+        if (destroyed) return;
+
+        Future<?> previous = inFlight.remove(key);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+
+        int generation = generations.getOrDefault(key, 0) + 1;
+        generations.put(key, generation);
+
+        try {
+            inFlight.put(key, EXECUTOR.submit(() -> {
+                T result;
+                try {
+                    result = stage.process();
+                } catch (RuntimeException e) {
+                    MAIN_HANDLER.post(() -> {
+                        if (destroyed || !isCurrent(key, generation)) return;
+                        inFlight.remove(key);
+                        onError.onError(e);
+                    });
+                    return;
+                }
+                MAIN_HANDLER.post(() -> {
+                    if (destroyed || !isCurrent(key, generation)) return;
+                    inFlight.remove(key);
+                    consumer.accept(result);
+                });
+            }));
+        } catch (RejectedExecutionException e) {
+            onError.onError(e);
+        }
+    }
+
+    public void cancelAll() {
+        for (Future<?> future : inFlight.values()) {
+            future.cancel(false);
+        }
+        inFlight.clear();
+        for (Map.Entry<String, Integer> entry : generations.entrySet()) {
+            entry.setValue(entry.getValue() + 1);
+        }
+    }
+
+    private boolean isCurrent(String key, int generation) {
+        Integer current = generations.get(key);
+        return current != null && current == generation;
+    }
+
+    @Override
+    public void onDestroy(@NonNull LifecycleOwner owner) {
+        destroyed = true;
+        cancelAll();
+        owner.getLifecycle().removeObserver(this);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.quotehub;
+
+import androidx.annotation.NonNull;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.ServerValue;
+import com.google.firebase.database.ValueEventListener;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// Denormalized per-user counters kept next to the data they summarize:
+//   users/{uid}/stats/totalLikes, users/{uid}/stats/customQuotes
+//   users/{uid}/likesByDay/{epochDay}
+// Callers add these paths to the same updateChildren() map as the like/unlike/create write.
+// users/{uid}/stats/reconciledVersion records the last reconcile() that rebuilt them.
+public final class UserStats {
+
+    static final long DAY_MS = 24 * 60 * 60 * 1000L;
+    // Bump when the counters gain a field or change meaning, so every user is rebuilt once more.
+    public static final long RECONCILE_VERSION = 1;
+
+    private static final Set<String> reconciling = new HashSet<>();
+
+    private UserStats() {
+    }
+
+    public static String dayKey(long timestamp) {
+        return String.valueOf(timestamp / DAY_MS);
+    }
+
+    public static void putLike(Map<String, Object> updates, String userId, long likedAt) {
+        String base = "users/" + userId + "/";
+        updates.put(base + "stats/totalLikes", ServerValue.increment(1));
+        updates.put(base + "likesByDay/" + dayKey(likedAt), ServerValue.increment(1));
+    }
+
+    public static void putUnlike(Map<String, Object> updates, String userId, Long likedAt) {
+        String base = "users/" + userId + "/";
+        updates.put(base + "stats/totalLikes", ServerValue.increment(-1));
+        if (likedAt != null && likedAt > 0) {
+            updates.put(base + "likesByDay/" + dayKey(likedAt), ServerValue.increment(-1));
+        }
+    }
+
+    public static String customQuotesPath(String userId) {
+        return "users/" + userId + "/stats/customQuotes";
+    }
+
+    // Counters written before they were kept in step with every write, or by an older version,
+    // are missing likes and quotes made earlier; negative ones have drifted.
+    public static boolean needsReconcile(DataSnapshot stats) {
+        Long version = stats.child("reconciledVersion").getValue(Long.class);
+        Long likes = stats.child("totalLikes").getValue(Long.class);
+        Long created = stats.child("customQuotes").getValue(Long.class);
+        return version == null || version < RECONCILE_VERSION
+                || (likes != null && likes < 0) || (created != null && created < 0);
+    }
+
+    // Rebuilds every counter from the source lists and records RECONCILE_VERSION with them. This
+    // downloads likedQuotes and customQuotes, so callers gate it on needsReconcile().
+    public static void reconcile(DatabaseReference root, String userId) {
+        if (!reconciling.add(userId)) return;
+
+        DatabaseReference userRef = root.child("users").child(userId);
+        userRef.child("likedQuotes").addListenerForSingleValueEvent(new ValueEventListener() {
+            @Override
+            public void onDataChange(@NonNull DataSnapshot likedSnapshot) {
+                Map<String, Long> likesByDay = new HashMap<>();
+                for (DataSnapshot snapshot : likedSnapshot.getChildren()) {
+                    // Likes are {id: likedAt}; older entries are full copies with a timestamp field.
+                    Object value = snapshot.getValue();
+                    Long timestamp = value instanceof Number
+                            ? Long.valueOf(((Number) value).longValue())
+                            : snapshot.child("timestamp").getValue(Long.class);
+                    if (timestamp != null) {
+                        String day = dayKey(timestamp);
+                        likesByDay.put(day, likesByDay.getOrDefault(day, 0L) + 1);
+                    }
+                }
+                long totalLikes = likedSnapshot.getChildrenCount();
+
+                userRef.child("customQuotes").addListenerForSingleValueEvent(new ValueEventListener() {
+                    @Override
+                    public void onDataChange(@NonNull DataSnapshot customSnapshot) {
+                        Map<String, Object> updates = new HashMap<>();
+                        updates.put("stats/totalLikes", totalLikes);
+                        updates.put("stats/customQuotes", customSnapshot.getChildrenCount());
+                        updates.put("likesByDay", likesByDay);
+                        updates.put("stats/reconciledVersion", RECONCILE_VERSION);
+                        userRef.updateChildren(updates)
+                                .addOnCompleteListener(task -> reconciling.remove(userId));
+                    }
+
+                    @Override
+                    public void onCancelled(@NonNull DatabaseError error) {
+                        reconciling.remove(userId);
+                    }
+                });
+            }
+
+            @Override
+            public void onCancelled(@NonNull DatabaseError error) {
+                reconciling.remove(userId);
+            }
+        });
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.quotehub;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class AuthorDirectoryTest {
+
+    @Test
+    public void lookup_matchesAnyWordStart() {
+        AuthorDirectory directory = new AuthorDirectory.Builder()
+                .add("Albert Einstein")
+                .add("Albert Camus")
+                .add("Maya Angelou")
+                .build();
+
+        assertEquals(2, directory.lookup("alb", 10).size());
+        assertEquals(Arrays.asList("Albert Einstein"), directory.lookup("einst", 10));
+        assertEquals(Arrays.asList("Albert Camus"), directory.lookup("albert c", 10));
+        assertTrue(directory.lookup("xyz", 10).isEmpty());
+    }
+
+    @Test
+    public void lookup_mergesSpellingsAndPrefersTheCommonOne() {
+        AuthorDirectory directory = new AuthorDirectory.Builder()
+                .add("Mark Twain")
+                .add("mark twain")
+                .add("Mark Twain.")
+                .add("Mark Twain")
+                .build();
+
+        assertEquals(1, directory.size());
+        assertEquals(Arrays.asList("Mark Twain"), directory.lookup("twa", 10));
+    }
+
+    @Test
+    public void lookup_ranksByQuoteCountAndHonoursLimit() {
+        AuthorDirectory directory = new AuthorDirectory.Builder()
+                .add("Seneca")
+                .add("Socrates").add("Socrates")
+                .add("Sophocles").add("Sophocles").add("Sophocles")
+                .build();
+
+        List<String> result = directory.lookup("s", 2);
+
+        assertEquals(Arrays.asList("Sophocles", "Socrates"), result);
+    }
+
+    @Test
+    public void remove_dropsAuthorOnceUnused() {
+        AuthorDirectory.Builder builder = new AuthorDirectory.Builder().add("Rumi").add("Rumi");
+
+        builder.remove("Rumi");
+        assertEquals(1, builder.build().size());
+        builder.remove("Rumi");
+        assertEquals(0, builder.build().size());
+    }
+}
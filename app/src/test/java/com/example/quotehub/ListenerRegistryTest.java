@@ -0,0 +1,115 @@
+package com.example.quotehub;
+
+import androidx.lifecycle.LifecycleOwner;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ListenerRegistryTest {
+
+    private final LifecycleOwner owner = () -> null;
+
+    private static class CountingBinding implements ListenerRegistry.Binding {
+        int attached;
+
+        @Override
+        public void attach() {
+            attached++;
+        }
+
+        @Override
+        public void detach() {
+            attached--;
+        }
+    }
+
+    @Test
+    public void register_keepsEveryListenerOnTheSameQuery() {
+        ListenerRegistry registry = new ListenerRegistry();
+        registry.onStart(owner);
+        int liveBefore = ListenerRegistry.getLiveListenerCount();
+        CountingBinding first = new CountingBinding();
+        CountingBinding second = new CountingBinding();
+
+        ListenerRegistry.Registration firstRegistration = registry.register(first);
+        ListenerRegistry.Registration secondRegistration = registry.register(second);
+
+        assertNotSame(firstRegistration, secondRegistration);
+        assertEquals(1, first.attached);
+        assertEquals(1, second.attached);
+        assertEquals(2, registry.size());
+        assertEquals(liveBefore + 2, ListenerRegistry.getLiveListenerCount());
+    }
+
+    @Test
+    public void remove_detachesOnlyThatRegistration() {
+        ListenerRegistry registry = new ListenerRegistry();
+        registry.onStart(owner);
+        int liveBefore = ListenerRegistry.getLiveListenerCount();
+        CountingBinding yesterday = new CountingBinding();
+        CountingBinding stats = new CountingBinding();
+        ListenerRegistry.Registration yesterdayRegistration = registry.register(yesterday);
+        registry.register(stats);
+
+        registry.remove(yesterdayRegistration);
+        registry.remove(yesterdayRegistration);
+        registry.remove(null);
+
+        assertEquals(0, yesterday.attached);
+        assertEquals(1, stats.attached);
+        assertEquals(1, registry.size());
+        assertEquals(liveBefore + 1, ListenerRegistry.getLiveListenerCount());
+
+        // A removed registration stays gone across a stop and start.
+        registry.onStop(owner);
+        registry.onStart(owner);
+        assertEquals(0, yesterday.attached);
+        assertEquals(1, stats.attached);
+    }
+
+    @Test
+    public void stopAndStart_detachAndReattachTheSameListeners() {
+        ListenerRegistry registry = new ListenerRegistry();
+        int liveBefore = ListenerRegistry.getLiveListenerCount();
+        CountingBinding stats = new CountingBinding();
+        CountingBinding logs = new CountingBinding();
+        registry.register(stats);
+        registry.register(logs);
+
+        // Nothing is attached before the owner starts.
+        assertEquals(0, stats.attached);
+        assertEquals(liveBefore, ListenerRegistry.getLiveListenerCount());
+
+        registry.onStart(owner);
+        assertEquals(1, stats.attached);
+        assertEquals(1, logs.attached);
+        assertEquals(liveBefore + 2, ListenerRegistry.getLiveListenerCount());
+
+        registry.onStop(owner);
+        assertEquals(0, stats.attached);
+        assertEquals(0, logs.attached);
+        assertEquals(liveBefore, ListenerRegistry.getLiveListenerCount());
+
+        registry.onStart(owner);
+        assertEquals(1, stats.attached);
+        assertEquals(liveBefore + 2, ListenerRegistry.getLiveListenerCount());
+    }
+
+    @Test
+    public void removeAll_detachesAndForgets() {
+        ListenerRegistry registry = new ListenerRegistry();
+        registry.onStart(owner);
+        int liveBefore = ListenerRegistry.getLiveListenerCount();
+        CountingBinding binding = new CountingBinding();
+        registry.register(binding);
+
+        registry.removeAll();
+        assertEquals(0, binding.attached);
+        assertEquals(0, registry.size());
+        assertEquals(liveBefore, ListenerRegistry.getLiveListenerCount());
+
+        registry.onStop(owner);
+        registry.onStart(owner);
+        assertEquals(0, binding.attached);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.quotehub;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MinHashIndexTest {
+
+    private static Quote quote(String id, String text) {
+        return new Quote(id, text, "Author", "Life", false, 0);
+    }
+
+    @Test
+    public void findSimilar_ignoresCaseAndPunctuation() {
+        MinHashIndex index = new MinHashIndex();
+        index.put(quote("q1", "The only way to do great work is to love what you do."));
+        index.put(quote("q2", "In the middle of difficulty lies opportunity."));
+
+        List<MinHashIndex.Match> matches = index.findSimilar("the ONLY way to do great work, is to love what you do", 0.8f, 5);
+
+        assertEquals(1, matches.size());
+        assertEquals("q1", matches.get(0).quote.getId());
+        assertEquals(1f, matches.get(0).similarity, 0.001f);
+    }
+
+    @Test
+    public void findSimilar_catchesSmallEditsButNotUnrelatedText() {
+        MinHashIndex index = new MinHashIndex();
+        index.put(quote("q1", "Life is what happens when you're busy making other plans"));
+
+        assertFalse(index.findSimilar("Life is what happens while you are busy making other plans", 0.5f, 5).isEmpty());
+        assertTrue(index.findSimilar("Be yourself; everyone else is already taken", 0.5f, 5).isEmpty());
+    }
+
+    @Test
+    public void putAndRemove_replaceEarlierVersions() {
+        MinHashIndex index = new MinHashIndex();
+        index.put(quote("q1", "Stay hungry, stay foolish"));
+        index.put(quote("q1", "Simplicity is the ultimate sophistication"));
+
+        assertTrue(index.findSimilar("Stay hungry, stay foolish", 0.8f, 5).isEmpty());
+        assertEquals(1, index.findSimilar("Simplicity is the ultimate sophistication", 0.8f, 5).size());
+
+        index.remove("q1");
+        assertEquals(0, index.size());
+        assertTrue(index.findSimilar("Simplicity is the ultimate sophistication", 0.8f, 5).isEmpty());
+    }
+
+    @Test
+    public void remove_compactsWithoutLosingLiveQuotes() {
+        MinHashIndex index = new MinHashIndex();
+        for (int i = 0; i < 3000; i++) {
+            index.put(quote("q" + i, "Distinct quote number " + i + " about topic " + (i * 7919)));
+        }
+        for (int i = 0; i < 2990; i++) {
+            index.remove("q" + i);
+        }
+
+        assertEquals(10, index.size());
+        List<MinHashIndex.Match> matches = index.findSimilar("Distinct quote number 2995 about topic " + (2995 * 7919), 0.95f, 5);
+        assertEquals("q2995", matches.get(0).quote.getId());
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.quotehub;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class QueryCacheTest {
+
+    private long now = 0;
+
+    // Loader that holds each load open until the test finishes it.
+    private static class PendingLoader implements QueryCache.Loader<String> {
+        final List<LocalQuoteStore.Callback<String>> loads = new ArrayList<>();
+
+        @Override
+        public void load(LocalQuoteStore.Callback<String> done) {
+            loads.add(done);
+        }
+
+        void finish(int index, String value) {
+            loads.get(index).onResult(value);
+        }
+    }
+
+    private QueryCache<String> newCache(long ttlMs, int maxEntries) {
+        return new QueryCache<>(ttlMs, maxEntries, () -> now);
+    }
+
+    private static void load(QueryCache<String> cache, String key, String value) {
+        cache.get(key, done -> done.onResult(value), result -> { });
+    }
+
+    @Test
+    public void get_servesFreshEntriesAndReloadsAfterTtl() {
+        QueryCache<String> cache = newCache(1000, 8);
+        List<String> results = new ArrayList<>();
+        load(cache, "cat:Wisdom|", "first");
+
+        now = 999;
+        cache.get("cat:Wisdom|", done -> done.onResult("second"), results::add);
+        assertEquals("first", results.get(0));
+        assertEquals(1, cache.getHitCount());
+
+        now = 1000;
+        cache.get("cat:Wisdom|", done -> done.onResult("second"), results::add);
+        assertEquals("second", results.get(1));
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void get_evictsTheLeastRecentlyUsedEntry() {
+        QueryCache<String> cache = newCache(1000, 2);
+        load(cache, "a", "A");
+        load(cache, "b", "B");
+        // Touching "a" leaves "b" as the eldest.
+        load(cache, "a", "unused");
+        load(cache, "c", "C");
+
+        List<String> results = new ArrayList<>();
+        cache.get("a", done -> done.onResult("reloaded"), results::add);
+        cache.get("b", done -> done.onResult("reloaded"), results::add);
+        assertEquals("A", results.get(0));
+        assertEquals("reloaded", results.get(1));
+    }
+
+    @Test
+    public void get_coalescesRequestsWhileALoadIsRunning() {
+        QueryCache<String> cache = newCache(1000, 8);
+        PendingLoader loader = new PendingLoader();
+        List<String> results = new ArrayList<>();
+
+        cache.get("k", loader, results::add);
+        cache.get("k", loader, results::add);
+        assertEquals(1, loader.loads.size());
+        assertEquals(1, cache.getCoalescedCount());
+
+        loader.finish(0, "value");
+        assertEquals(2, results.size());
+        assertEquals("value", results.get(1));
+
+        cache.get("k", loader, results::add);
+        assertEquals(1, loader.loads.size());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void invalidate_dropsMatchingEntriesAndLoadsOnly() {
+        QueryCache<String> cache = newCache(1000, 8);
+        PendingLoader loader = new PendingLoader();
+        List<String> results = new ArrayList<>();
+        load(cache, "cat:Wisdom|", "cached");
+
+        cache.get("cat:Wisdom|p2", loader, results::add);
+        cache.get("cat:Art|", loader, results::add);
+        cache.invalidate("cat:Wisdom|");
+
+        // The invalidated load still answers its caller but is not cached.
+        loader.finish(0, "stale");
+        assertEquals("stale", results.get(0));
+        // A load for another key keeps caching its result.
+        loader.finish(1, "art");
+
+        cache.get("cat:Wisdom|", loader, results::add);
+        cache.get("cat:Wisdom|p2", loader, results::add);
+        cache.get("cat:Art|", loader, results::add);
+        assertEquals(4, loader.loads.size());
+        assertEquals("art", results.get(results.size() - 1));
+    }
+
+    @Test
+    public void invalidate_letsLaterRequestsStartAFreshLoad() {
+        QueryCache<String> cache = newCache(1000, 8);
+        PendingLoader loader = new PendingLoader();
+        List<String> results = new ArrayList<>();
+
+        cache.get("k", loader, results::add);
+        cache.invalidate("k");
+        cache.get("k", loader, results::add);
+        assertEquals(2, loader.loads.size());
+
+        loader.finish(1, "fresh");
+        loader.finish(0, "stale");
+        assertEquals("fresh", results.get(0));
+        assertEquals("stale", results.get(1));
+
+        // The fresh load's result is the one kept.
+        cache.get("k", loader, results::add);
+        assertEquals("fresh", results.get(2));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.quotehub;
+
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListUpdateCallback;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class QuoteAdapterDiffTest {
+
+    @Test
+    public void insert_dispatchesSingleInsert() {
+        List<Quote> oldList = Arrays.asList(quote("a", false), quote("b", false));
+        List<Quote> newList = Arrays.asList(quote("a", false), quote("c", false), quote("b", false));
+
+        assertEquals(Arrays.asList("insert 1 1"), diff(oldList, newList));
+    }
+
+    @Test
+    public void remove_dispatchesSingleRemove() {
+        List<Quote> oldList = Arrays.asList(quote("a", false), quote("b", false), quote("c", false));
+        List<Quote> newList = Arrays.asList(quote("a", false), quote("c", false));
+
+        assertEquals(Arrays.asList("remove 1 1"), diff(oldList, newList));
+    }
+
+    @Test
+    public void likeFlip_dispatchesLikePayloadOnly() {
+        List<Quote> oldList = Arrays.asList(quote("a", false), quote("b", false), quote("c", false));
+        List<Quote> newList = Arrays.asList(quote("a", false), quote("b", true), quote("c", false));
+
+        assertEquals(Arrays.asList("change 1 1 " + QuoteAdapter.PAYLOAD_LIKE), diff(oldList, newList));
+    }
+
+    @Test
+    public void textEdit_dispatchesFullRebind() {
+        Quote edited = quote("b", false);
+        edited.setText("edited");
+        List<Quote> oldList = Arrays.asList(quote("a", false), quote("b", false));
+        List<Quote> newList = Arrays.asList(quote("a", false), edited);
+
+        assertEquals(Arrays.asList("change 1 1 null"), diff(oldList, newList));
+    }
+
+    @Test
+    public void stableId_dependsOnlyOnTheQuoteId() {
+        assertEquals(QuoteAdapter.stableIdOf("-NxQuoteA"), QuoteAdapter.stableIdOf(new String("-NxQuoteA")));
+        assertNotEquals(QuoteAdapter.stableIdOf("-NxQuoteA"), QuoteAdapter.stableIdOf("-NxQuoteB"));
+        assertNotEquals(QuoteAdapter.stableIdOf("ab"), QuoteAdapter.stableIdOf("ba"));
+    }
+
+    private static Quote quote(String id, boolean liked) {
+        return new Quote(id, "text " + id, "author " + id, "Wisdom", liked, 0);
+    }
+
+    private static List<String> diff(List<Quote> oldList, List<Quote> newList) {
+        DiffUtil.DiffResult result = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldList.size();
+            }
+
+            @Override
+            public int getNewListSize() {
+                return newList.size();
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                return QuoteAdapter.DIFF_CALLBACK.areItemsTheSame(
+                        oldList.get(oldItemPosition), newList.get(newItemPosition));
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                return QuoteAdapter.DIFF_CALLBACK.areContentsTheSame(
+                        oldList.get(oldItemPosition), newList.get(newItemPosition));
+            }
+
+            @Nullable
+            @Override
+            public Object getChangePayload(int oldItemPosition, int newItemPosition) {
+                return QuoteAdapter.DIFF_CALLBACK.getChangePayload(
+                        oldList.get(oldItemPosition), newList.get(newItemPosition));
+            }
+        });
+
+        List<String> operations = new ArrayList<>();
+        result.dispatchUpdatesTo(new ListUpdateCallback() {
+            @Override
+            public void onInserted(int position, int count) {
+                operations.add("insert " + position + " " + count);
+            }
+
+            @Override
+            public void onRemoved(int position, int count) {
+                operations.add("remove " + position + " " + count);
+            }
+
+            @Override
+            public void onMoved(int fromPosition, int toPosition) {
+                operations.add("move " + fromPosition + " " + toPosition);
+            }
+
+            @Override
+            public void onChanged(int position, int count, @Nullable Object payload) {
+                operations.add("change " + position + " " + count + " " + payload);
+            }
+        });
+        return operations;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.quotehub;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class QuoteSearchIndexTest {
+
+    private static Quote quote(String id, String text, String author) {
+        return new Quote(id, text, author, "Life", false, 0);
+    }
+
+    @Test
+    public void search_requiresEveryWord() {
+        QuoteSearchIndex index = new QuoteSearchIndex();
+        index.put(quote("q1", "Stay hungry, stay foolish", "Steve Jobs"));
+        index.put(quote("q2", "Stay close to your friends", "Unknown"));
+
+        List<Quote> results = index.search("stay hungry ", 10);
+
+        assertEquals(1, results.size());
+        assertEquals("q1", results.get(0).getId());
+    }
+
+    @Test
+    public void search_matchesLastWordByPrefixAndAuthor() {
+        QuoteSearchIndex index = new QuoteSearchIndex();
+        index.put(quote("q1", "Imagination is more important than knowledge", "Albert Einstein"));
+        index.put(quote("q2", "Knowledge is power", "Francis Bacon"));
+
+        assertEquals(2, index.search("knowl", 10).size());
+        assertEquals("q1", index.search("einst", 10).get(0).getId());
+        assertTrue(index.search("knowl ", 10).isEmpty());
+    }
+
+    @Test
+    public void search_ranksRarerAndDenserMatchesFirst() {
+        QuoteSearchIndex index = new QuoteSearchIndex();
+        index.put(quote("q1", "Love the life you live, live the life you love", "Bob Marley"));
+        index.put(quote("q2", "Life is what happens while you make other plans", "John Lennon"));
+        index.put(quote("q3", "Life is short", "Unknown"));
+
+        List<Quote> results = index.search("love life ", 10);
+
+        assertEquals(1, results.size());
+        assertEquals("q1", results.get(0).getId());
+        assertEquals("q3", index.search("life ", 10).get(0).getId());
+    }
+
+    @Test
+    public void putAndRemove_replaceEarlierVersions() {
+        QuoteSearchIndex index = new QuoteSearchIndex();
+        index.put(quote("q1", "Old words", "A"));
+        index.put(quote("q1", "New words", "A"));
+
+        assertTrue(index.search("old ", 10).isEmpty());
+        assertEquals(1, index.search("new ", 10).size());
+
+        index.remove("q1");
+        assertTrue(index.search("words", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void remove_compactsWithoutLosingLiveQuotes() {
+        QuoteSearchIndex index = new QuoteSearchIndex();
+        for (int i = 0; i < 3000; i++) {
+            index.put(quote("q" + i, "Quote number " + i, "Author"));
+        }
+        for (int i = 0; i < 2990; i++) {
+            index.remove("q" + i);
+        }
+
+        assertEquals(10, index.size());
+        assertEquals(10, index.search("quote", 50).size());
+        assertEquals("q2995", index.search("2995", 10).get(0).getId());
+    }
+}
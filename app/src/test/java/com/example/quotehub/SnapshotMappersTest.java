@@ -0,0 +1,62 @@
+package com.example.quotehub;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class SnapshotMappersTest {
+
+    @Test
+    public void quote_roundTripsThroughMap() {
+        Quote quote = new Quote("q1", "Stay hungry", "Jobs", "Motivation", true, 1234L, "u1");
+
+        Quote read = SnapshotMappers.toQuote("ignored", SnapshotMappers.toMap(quote));
+
+        assertEquals("q1", read.getId());
+        assertEquals("Stay hungry", read.getText());
+        assertEquals("Jobs", read.getAuthor());
+        assertEquals("Motivation", read.getCategory());
+        assertTrue(read.isLiked());
+        assertEquals(1234L, read.getTimestamp());
+        assertEquals("u1", read.getUserId());
+    }
+
+    @Test
+    public void quote_fallsBackToKeyAndDefaults() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("text", "Be kind");
+        map.put("timestamp", 5.0);
+
+        Quote read = SnapshotMappers.toQuote("key1", map);
+
+        assertEquals("key1", read.getId());
+        assertEquals(5L, read.getTimestamp());
+        assertFalse(read.isLiked());
+        assertNull(read.getAuthor());
+    }
+
+    @Test
+    public void nonMapValue_returnsNull() {
+        assertNull(SnapshotMappers.toQuote("k", "text"));
+        assertNull(SnapshotMappers.toUser("k", null));
+        assertNull(SnapshotMappers.toActivityLog("k", 42L));
+    }
+
+    @Test
+    public void userAndActivityLog_roundTripThroughMap() {
+        User user = SnapshotMappers.toUser("u1", SnapshotMappers.toMap(new User("u1", "a@b.c", 99L)));
+        assertEquals("a@b.c", user.getEmail());
+        assertEquals(99L, user.getCreatedAt());
+        assertEquals(99L, user.getLastLogin());
+
+        ActivityLog log = SnapshotMappers.toActivityLog("l1",
+                SnapshotMappers.toMap(new ActivityLog("l1", "Created", "desc", 7L, "q1")));
+        assertEquals("Created", log.getAction());
+        assertEquals("desc", log.getDescription());
+        assertEquals(7L, log.getTimestamp());
+        assertEquals("q1", log.getQuoteId());
+    }
+}